@@ -0,0 +1,45 @@
+package kr.ac.kopo.kyg.projectkyg.bench;
+
+import kr.ac.kopo.kyg.projectkyg.domain.Assignment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** projectsPage 의 과제 정렬({@link Assignment#upcomingFirst}) 단독 벤치마크 (DB 없음) */
+@State(Scope.Thread)
+public class AssignmentSortBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<Assignment> source;
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Assignment assignment = new Assignment();
+            assignment.setId((long) i);
+            assignment.setDeadline(now.plusMinutes(random.nextInt(120_000) - 60_000));
+            source.add(assignment);
+        }
+    }
+
+    @Benchmark
+    public List<Assignment> sort() {
+        List<Assignment> assignments = new ArrayList<>(source);
+        assignments.sort(Assignment.upcomingFirst(now));
+        return assignments;
+    }
+}
@@ -0,0 +1,89 @@
+package kr.ac.kopo.kyg.projectkyg.bench;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 데이터 (고정 시드라 매 실행마다 같은 데이터).
+ * <p>
+ * 팀 2,000 / 사용자 5,000 / 팀당 팀원 8명, 과제 10개 (과제 20,000) / 제출 약 50,000.
+ * JPA 를 거치지 않고 JDBC 배치 insert 로 채웁니다.
+ */
+public final class BenchmarkData {
+
+    public static final int TEAMS = 2_000;
+    public static final int USERS = 5_000;
+    public static final int MEMBERS_PER_TEAM = 8;
+    public static final int ASSIGNMENTS_PER_TEAM = 10;
+    /** 과제별 제출 확률 (팀원 8명 × 0.3 ≈ 과제당 2.4건) */
+    private static final double SUBMIT_RATIO = 0.3;
+    private static final int BATCH = 1_000;
+
+    private BenchmarkData() {
+    }
+
+    /** username = "user{n}", 사용자 id = n + 1 */
+    public static String username(int userIndex) {
+        return "user" + userIndex;
+    }
+
+    /** team 번째 팀의 k 번째 팀원 (k = 0 이 팀장) */
+    public static int member(int team, int k) {
+        return (team * 7 + k * 613) % USERS;
+    }
+
+    public static void seed(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            // 비밀번호 해시는 측정 대상이 아니므로 고정 문자열
+            users.add(new Object[]{u + 1L, "사용자" + u, username(u), "{noop}bench", "ROLE_USER"});
+        }
+        batch(jdbc, "INSERT INTO users (id, name, username, password, role) VALUES (?, ?, ?, ?, ?)", users);
+
+        List<Object[]> teams = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            int manager = member(t, 0);
+            teams.add(new Object[]{t + 1L, "팀" + t, "벤치마크 팀 " + t, username(manager), "사용자" + manager, "{noop}bench"});
+            for (int k = 0; k < MEMBERS_PER_TEAM; k++) {
+                memberships.add(new Object[]{member(t, k) + 1L, t + 1L});
+            }
+        }
+        batch(jdbc, "INSERT INTO teams (id, name, description, manager_username, manager_name, password) VALUES (?, ?, ?, ?, ?, ?)", teams);
+        batch(jdbc, "INSERT INTO user_team (user_id, team_id) VALUES (?, ?)", memberships);
+
+        List<Object[]> assignments = new ArrayList<>();
+        List<Object[]> submissions = new ArrayList<>();
+        long assignmentId = 1;
+        for (int t = 0; t < TEAMS; t++) {
+            for (int a = 0; a < ASSIGNMENTS_PER_TEAM; a++, assignmentId++) {
+                // 절반은 마감 지남, 절반은 마감 전
+                LocalDateTime deadline = now.plusDays(random.nextInt(60) - 30).plusMinutes(random.nextInt(1440));
+                assignments.add(new Object[]{assignmentId, "과제" + a, "설명", Timestamp.valueOf(deadline), t + 1L});
+                for (int k = 0; k < MEMBERS_PER_TEAM; k++) {
+                    if (random.nextDouble() < SUBMIT_RATIO) {
+                        LocalDateTime submittedAt = deadline.minusHours(random.nextInt(72) - 12);
+                        submissions.add(new Object[]{assignmentId, member(t, k) + 1L, Timestamp.valueOf(submittedAt),
+                                submittedAt.isAfter(deadline), "report-" + k + ".pdf", 1024L * (1 + random.nextInt(4096))});
+                    }
+                }
+            }
+        }
+        batch(jdbc, "INSERT INTO assignments (id, name, description, deadline, team_id) VALUES (?, ?, ?, ?, ?)", assignments);
+        batch(jdbc, "INSERT INTO submissions (assignment_id, user_id, submitted_at, late, file_name, file_size) VALUES (?, ?, ?, ?, ?, ?)", submissions);
+    }
+
+    private static void batch(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH)));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package kr.ac.kopo.kyg.projectkyg.bench;
+
+import kr.ac.kopo.kyg.projectkyg.domain.Assignment;
+import kr.ac.kopo.kyg.projectkyg.domain.Submission;
+import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.SubmissionRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.TeamDashboardRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 페이지별 데이터 조회 경로 벤치마크.
+ * 사용자/팀은 고정 순서로 돌아가며 선택하여 매 실행이 같은 조회 순서를 갖습니다.
+ */
+@State(Scope.Thread)
+public class RepositoryBenchmark {
+
+    private TeamRepository teamRepository;
+    private AssignmentRepository assignmentRepository;
+    private SubmissionRepository submissionRepository;
+    private TransactionTemplate transactionTemplate;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        teamRepository = app.bean(TeamRepository.class);
+        assignmentRepository = app.bean(AssignmentRepository.class);
+        submissionRepository = app.bean(SubmissionRepository.class);
+        transactionTemplate = app.bean(TransactionTemplate.class);
+    }
+
+    private int nextTeam() {
+        cursor = (cursor + 7919) % BenchmarkData.TEAMS;
+        return cursor;
+    }
+
+    /** MainController.mainPage: 팀 목록 + 팀장 이름 + 미제출 과제 유무 */
+    @Benchmark
+    public List<TeamDashboardRow> mainPage() {
+        int member = BenchmarkData.member(nextTeam(), 3);
+        return teamRepository.findDashboardRows(BenchmarkData.username(member));
+    }
+
+    /** TeamManagerController.projectsPage: 과제 목록, 제출 여부, 정렬 */
+    @Benchmark
+    public List<Assignment> projectsPage() {
+        int team = nextTeam();
+        long teamId = team + 1L;
+        long userId = BenchmarkData.member(team, 3) + 1L;
+
+        List<Assignment> assignments = assignmentRepository.findByTeamId(teamId);
+        Set<Long> submittedIds = submissionRepository.findSubmittedAssignmentIds(userId, teamId);
+        for (Assignment assignment : assignments) {
+            assignment.setSubmitted(submittedIds.contains(assignment.getId()));
+        }
+        assignments.sort(Assignment.upcomingFirst(LocalDateTime.now()));
+        return assignments;
+    }
+
+    /** SubmissionRepository.findAllByAssignmentIn: 팀 전체 과제의 제출 엔티티 */
+    @Benchmark
+    public List<Submission> findAllByAssignmentIn() {
+        long teamId = nextTeam() + 1L;
+        return transactionTemplate.execute(status ->
+                submissionRepository.findAllByAssignmentIn(assignmentRepository.findByTeamId(teamId)));
+    }
+}
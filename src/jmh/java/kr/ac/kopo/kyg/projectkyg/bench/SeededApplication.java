@@ -0,0 +1,41 @@
+package kr.ac.kopo.kyg.projectkyg.bench;
+
+import kr.ac.kopo.kyg.projectkyg.ProjectKygApplication;
+import kr.ac.kopo.kyg.projectkyg.service.UserTeamStatusService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * bench 프로필로 애플리케이션 컨텍스트를 띄우고 {@link BenchmarkData}를 채운 상태.
+ * 포크(JVM)마다 한 번 만들어집니다.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ProjectKygApplication.class)
+                .profiles("bench")
+                .run();
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class));
+        // 시작 시 계산된 미제출 현황은 빈 테이블 기준이므로 채운 데이터로 다시 계산
+        context.getBean(UserTeamStatusService.class).rebuildAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,108 @@
+package kr.ac.kopo.kyg.projectkyg.bench;
+
+import jakarta.servlet.ServletOutputStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.WriteListener;
+import kr.ac.kopo.kyg.projectkyg.monitoring.StorageMetrics;
+import kr.ac.kopo.kyg.projectkyg.storage.FileSystemSubmissionStorage;
+import kr.ac.kopo.kyg.projectkyg.storage.StagedContent;
+import kr.ac.kopo.kyg.projectkyg.storage.StoredContent;
+import kr.ac.kopo.kyg.projectkyg.storage.SubmissionDownloadWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * 1~16MB 파일의 업로드(저장소 저장)와 다운로드(응답 전송) 벤치마크.
+ * 다운로드는 sendfile 이 없는 환경의 FileChannel.transferTo 경로를 측정하며, 응답 본문은 버립니다.
+ */
+@State(Scope.Thread)
+public class StorageBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int sizeMb;
+
+    private Path root;
+    private FileSystemSubmissionStorage storage;
+    private SubmissionDownloadWriter writer;
+    private byte[] payload;
+    private StoredContent downloadTarget;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("projectkyg-storage-bench");
+        storage = new FileSystemSubmissionStorage(root.toString(), true);
+        writer = new SubmissionDownloadWriter(storage, new StorageMetrics(new SimpleMeterRegistry()));
+
+        payload = new byte[sizeMb * 1024 * 1024];
+        new Random(42).nextBytes(payload);
+        downloadTarget = storage.store(new ByteArrayInputStream(payload));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(root);
+    }
+
+    /** 같은 내용은 기존 파일을 공유하므로, 매번 실제로 일어나는 임시 저장(+SHA-256)까지만 측정 */
+    @Benchmark
+    public StagedContent upload() throws IOException {
+        StagedContent staged = storage.stage(new ByteArrayInputStream(payload), Long.MAX_VALUE);
+        storage.discard(staged);
+        return staged;
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/assignments/download/1");
+        DiscardingResponse response = new DiscardingResponse();
+        writer.write(request, response, downloadTarget, "report.pdf", Instant.EPOCH);
+        return response.written;
+    }
+
+    /** 본문을 메모리에 모으지 않고 바이트 수만 세는 응답 */
+    private static final class DiscardingResponse extends MockHttpServletResponse {
+
+        private long written;
+
+        private final ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+    }
+}
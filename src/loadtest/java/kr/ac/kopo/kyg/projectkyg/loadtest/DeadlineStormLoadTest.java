@@ -0,0 +1,155 @@
+package kr.ac.kopo.kyg.projectkyg.loadtest;
+
+import kr.ac.kopo.kyg.projectkyg.ProjectKygApplication;
+import kr.ac.kopo.kyg.projectkyg.service.AssignmentDeadlineScheduler;
+import kr.ac.kopo.kyg.projectkyg.service.UserTeamStatusService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 마감 직전 제출 폭주 부하 테스트.
+ * <p>
+ * 애플리케이션을 loadtest 프로필(내장 H2)로 같은 JVM 에 띄운 뒤,
+ * - 학생: 로그인 → /main → /projects/{id} → 마감 전 window 안의 임의 시각에 과제 제출 → /projects/{id}
+ * - 팀장: 로그인 후 window 가 끝날 때까지 1초마다 /projects/{teamId}/all-submissions 조회
+ * 를 동시에 실행하고, 엔드포인트별 p50/p99/최대 응답 시간, 처리량, 오류 수와 힙/커넥션 풀 포화도를 출력합니다.
+ * <p>
+ * 실행: ./gradlew loadTest -Dloadtest.students=300 -Dloadtest.teams=15 -Dloadtest.window=PT2M -Dloadtest.file-size-kb=1024
+ * (가상 스레드 모드 비교: -Dspring.profiles.active=loadtest,virtual)
+ */
+public final class DeadlineStormLoadTest {
+
+    /** 로그인과 첫 페이지 조회를 분산하는 시간 */
+    private static final Duration WARM_UP = Duration.ofSeconds(10);
+
+    private DeadlineStormLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int students = Integer.getInteger("loadtest.students", 300);
+        int teams = Integer.getInteger("loadtest.teams", 15);
+        Duration window = Duration.parse(System.getProperty("loadtest.window", "PT2M"));
+        int fileSizeKb = Integer.getInteger("loadtest.file-size-kb", 1024);
+        Path reportFile = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/deadline-storm.txt"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ProjectKygApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            long startNanos = System.nanoTime();
+            long stormStartNanos = startNanos + WARM_UP.toNanos();
+            long stormEndNanos = stormStartNanos + window.toNanos();
+            LocalDateTime deadline = LocalDateTime.now().plus(WARM_UP).plus(window);
+
+            LoadTestData data = new LoadTestData(teams, students);
+            data.seed(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class), deadline);
+            // 시작 시 계산/등록은 시드 전에 끝났으므로, 시드한 팀원 현황과 과제 마감을 다시 반영
+            context.getBean(UserTeamStatusService.class).rebuildAll();
+            context.getBean(AssignmentDeadlineScheduler.class).reload();
+
+            byte[] payload = new byte[fileSizeKb * 1024];
+            new Random(42).nextBytes(payload);
+
+            EndpointStats stats = new EndpointStats();
+            try (ResourceSampler sampler = new ResourceSampler(context.getBean(DataSource.class))) {
+                sampler.start();
+
+                try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int s = 0; s < students; s++) {
+                        int student = s;
+                        // Callable 로 넘겨 InterruptedException 을 그대로 전파 (종료 시 취소)
+                        users.submit(() -> {
+                            runStudent(baseUrl, stats, data, student, payload, startNanos, stormStartNanos, window);
+                            return null;
+                        });
+                    }
+                    for (int t = 0; t < teams; t++) {
+                        int team = t;
+                        users.submit(() -> {
+                            runManager(baseUrl, stats, data, team, stormEndNanos);
+                            return null;
+                        });
+                    }
+                }
+
+                double seconds = (System.nanoTime() - startNanos) / 1e9;
+                String report = report(stats, seconds, students, teams, window, fileSizeKb) + sampler.report();
+                System.out.println(report);
+                Files.createDirectories(reportFile.toAbsolutePath().getParent());
+                Files.writeString(reportFile, report);
+                System.out.println("report: " + reportFile.toAbsolutePath());
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void runStudent(String baseUrl, EndpointStats stats, LoadTestData data, int student, byte[] payload,
+                                   long startNanos, long stormStartNanos, Duration window) throws InterruptedException {
+        Random random = new Random(student);
+        LoadClient client = new LoadClient(baseUrl, stats);
+        int team = data.teamOf(student);
+
+        sleepUntil(startNanos + (long) (random.nextDouble() * WARM_UP.toNanos()));
+        if (!client.login(LoadTestData.studentUsername(student), LoadTestData.PASSWORD)) {
+            return;
+        }
+        client.get("GET /main", "/main");
+        client.get("GET /projects/{id}", "/projects/" + data.teamId(team));
+
+        // 마감 전 window 안의 임의 시각에 제출 (뒤로 갈수록 몰리도록 제곱근 분포)
+        sleepUntil(stormStartNanos + (long) (Math.sqrt(random.nextDouble()) * window.toNanos()));
+        client.submit(data.stormAssignmentId(team), payload);
+        client.get("GET /projects/{id}", "/projects/" + data.teamId(team));
+    }
+
+    private static void runManager(String baseUrl, EndpointStats stats, LoadTestData data, int team,
+                                   long stormEndNanos) throws InterruptedException {
+        LoadClient client = new LoadClient(baseUrl, stats);
+        if (!client.login(LoadTestData.managerUsername(team), LoadTestData.PASSWORD)) {
+            return;
+        }
+        while (System.nanoTime() < stormEndNanos) {
+            client.get("GET /projects/{teamId}/all-submissions", "/projects/" + data.teamId(team) + "/all-submissions");
+            Thread.sleep(1000);
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+
+    private static String report(EndpointStats stats, double seconds, int students, int teams,
+                                 Duration window, int fileSizeKb) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("deadline storm: %d students, %d teams, window %s, file %d KB, elapsed %.1f s%n",
+                students, teams, window, fileSizeKb, seconds));
+        out.append(String.format("%-42s %8s %7s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, EndpointStats.Recorder> entry : stats.snapshot().entrySet()) {
+            EndpointStats.Recorder r = entry.getValue();
+            out.append(String.format("%-42s %8d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(), r.count(), r.errors(), r.count() / seconds,
+                    r.percentileMillis(50), r.percentileMillis(99), r.percentileMillis(100)));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package kr.ac.kopo.kyg.projectkyg.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/** 엔드포인트별 응답 시간(ns)과 오류 수 집계 */
+final class EndpointStats {
+
+    private final Map<String, Recorder> recorders = new ConcurrentSkipListMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        recorders.computeIfAbsent(endpoint, key -> new Recorder()).add(nanos, success);
+    }
+
+    Map<String, Recorder> snapshot() {
+        return Map.copyOf(recorders);
+    }
+
+    static final class Recorder {
+        private long[] samples = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long nanos, boolean success) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+
+        /** p (0~100) 백분위 응답 시간 (ms) */
+        synchronized double percentileMillis(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(p / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))] / 1_000_000.0;
+        }
+    }
+}
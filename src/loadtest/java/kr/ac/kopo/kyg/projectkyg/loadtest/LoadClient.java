@@ -0,0 +1,82 @@
+package kr.ac.kopo.kyg.projectkyg.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/** 사용자 한 명의 브라우저 역할: 세션 쿠키를 유지하며 요청마다 응답 시간을 기록합니다. */
+final class LoadClient {
+
+    private final String baseUrl;
+    private final EndpointStats stats;
+    private final HttpClient http;
+
+    LoadClient(String baseUrl, EndpointStats stats) {
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.http = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /** 폼 로그인 (성공 시 /main 으로 리다이렉트) */
+    boolean login(String username, String password) {
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        HttpResponse<Void> response = send("POST /login", request);
+        return response != null && response.statusCode() == 302
+                && response.headers().firstValue("Location").orElse("").endsWith("/main");
+    }
+
+    void get(String endpoint, String path) {
+        send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build());
+    }
+
+    /** multipart/form-data 로 과제 파일 제출 */
+    void submit(long assignmentId, byte[] content) {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        List<byte[]> parts = new ArrayList<>();
+        parts.add(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"report.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        parts.add(content);
+        parts.add(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/assignments/" + assignmentId + "/submit"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(parts))
+                .build();
+        send("POST /assignments/{id}/submit", request);
+    }
+
+    private HttpResponse<Void> send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            // 제출/로그인은 302 가 정상, 리다이렉트 대상이 오류 페이지인 경우는 본문을 보지 않으므로 상태 코드로만 판단
+            stats.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package kr.ac.kopo.kyg.projectkyg.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 데이터: 팀마다 팀장 1명과 학생들, 마감이 임박한 과제 1개와 지난 과제 몇 개.
+ * 모든 사용자의 비밀번호는 {@link #PASSWORD} 입니다.
+ */
+final class LoadTestData {
+
+    static final String PASSWORD = "loadtest";
+    private static final int PAST_ASSIGNMENTS_PER_TEAM = 4;
+
+    private final int teams;
+    private final int students;
+
+    LoadTestData(int teams, int students) {
+        this.teams = teams;
+        this.students = students;
+    }
+
+    static String studentUsername(int index) {
+        return "student" + index;
+    }
+
+    static String managerUsername(int team) {
+        return "manager" + team;
+    }
+
+    /** 학생이 속한 팀 (0부터) */
+    int teamOf(int student) {
+        return student % teams;
+    }
+
+    long teamId(int team) {
+        return team + 1L;
+    }
+
+    /** 팀의 마감 임박 과제 ID */
+    long stormAssignmentId(int team) {
+        return team * (PAST_ASSIGNMENTS_PER_TEAM + 1L) + 1;
+    }
+
+    void seed(JdbcTemplate jdbc, PasswordEncoder passwordEncoder, LocalDateTime deadline) {
+        // BCrypt 는 느리므로 한 번만 계산해 모든 사용자에 사용
+        String hash = passwordEncoder.encode(PASSWORD);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> teamRows = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        List<Object[]> assignments = new ArrayList<>();
+
+        long userId = 1;
+        for (int t = 0; t < teams; t++, userId++) {
+            users.add(new Object[]{userId, "팀장" + t, managerUsername(t), hash, "ROLE_USER"});
+            teamRows.add(new Object[]{teamId(t), "팀" + t, "부하 테스트 팀", managerUsername(t), "팀장" + t, hash});
+            memberships.add(new Object[]{userId, teamId(t)});
+
+            long assignmentId = stormAssignmentId(t);
+            assignments.add(new Object[]{assignmentId, "기말 과제", "마감 직전 제출 폭주", Timestamp.valueOf(deadline), teamId(t)});
+            for (int a = 1; a <= PAST_ASSIGNMENTS_PER_TEAM; a++) {
+                assignments.add(new Object[]{assignmentId + a, "과제" + a, "지난 과제",
+                        Timestamp.valueOf(deadline.minusWeeks(a)), teamId(t)});
+            }
+        }
+        for (int s = 0; s < students; s++, userId++) {
+            users.add(new Object[]{userId, "학생" + s, studentUsername(s), hash, "ROLE_USER"});
+            memberships.add(new Object[]{userId, teamId(teamOf(s))});
+        }
+
+        jdbc.batchUpdate("INSERT INTO users (id, name, username, password, role) VALUES (?, ?, ?, ?, ?)", users);
+        jdbc.batchUpdate("INSERT INTO teams (id, name, description, manager_username, manager_name, password) VALUES (?, ?, ?, ?, ?, ?)", teamRows);
+        jdbc.batchUpdate("INSERT INTO user_team (user_id, team_id) VALUES (?, ?)", memberships);
+        jdbc.batchUpdate("INSERT INTO assignments (id, name, description, deadline, team_id) VALUES (?, ?, ?, ?, ?)", assignments);
+
+        // 명시적으로 넣은 ID 이후부터 자동 증가하도록 맞춤
+        jdbc.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + userId);
+        jdbc.execute("ALTER TABLE teams ALTER COLUMN id RESTART WITH " + (teams + 1));
+        jdbc.execute("ALTER TABLE assignments ALTER COLUMN id RESTART WITH " + (stormAssignmentId(teams)));
+    }
+}
@@ -0,0 +1,69 @@
+package kr.ac.kopo.kyg.projectkyg.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 힙 사용량과 커넥션 풀 포화도를 주기적으로 샘플링합니다.
+ * (애플리케이션과 같은 JVM 에서 실행되므로 힙에는 부하 생성기 자신의 사용량도 포함됩니다)
+ */
+final class ResourceSampler implements AutoCloseable {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final HikariPoolMXBean pool;
+    private final int poolSize;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private long samples;
+    private long maxHeapUsed;
+    private long maxActive;
+    private long maxAwaiting;
+    private long saturatedSamples;
+    private long activeSum;
+
+    ResourceSampler(DataSource dataSource) throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        this.pool = hikari.getHikariPoolMXBean();
+        this.poolSize = hikari.getMaximumPoolSize();
+    }
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, 200, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        samples++;
+        maxHeapUsed = Math.max(maxHeapUsed, memory.getHeapMemoryUsage().getUsed());
+        int active = pool.getActiveConnections();
+        int awaiting = pool.getThreadsAwaitingConnection();
+        activeSum += active;
+        maxActive = Math.max(maxActive, active);
+        maxAwaiting = Math.max(maxAwaiting, awaiting);
+        if (active >= poolSize) {
+            saturatedSamples++;
+        }
+    }
+
+    synchronized String report() {
+        return String.format(
+                "heap max used: %d MB%n"
+                        + "connection pool: size %d, active avg %.1f / max %d, threads awaiting max %d, saturated %.1f%% of samples",
+                maxHeapUsed / (1024 * 1024),
+                poolSize,
+                samples == 0 ? 0.0 : (double) activeSum / samples, maxActive, maxAwaiting,
+                samples == 0 ? 0.0 : 100.0 * saturatedSamples / samples);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -2,9 +2,11 @@ package kr.ac.kopo.kyg.projectkyg;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@EnableScheduling
 public class ProjectKygApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package kr.ac.kopo.kyg.projectkyg.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 로그인 사용자({@link kr.ac.kopo.kyg.projectkyg.service.UserSnapshot})를 주입합니다.
+ * 한 요청 안에서는 한 번만 조회되며, 조회는 사용자 캐시를 거칩니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+
+    /** false 이면 비로그인 상태에서 null 을 주입합니다. */
+    boolean required() default true;
+}
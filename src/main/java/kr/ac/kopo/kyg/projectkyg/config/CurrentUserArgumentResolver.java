@@ -0,0 +1,69 @@
+package kr.ac.kopo.kyg.projectkyg.config;
+
+import kr.ac.kopo.kyg.projectkyg.service.UserCache;
+import kr.ac.kopo.kyg.projectkyg.service.UserSnapshot;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Optional;
+
+/**
+ * {@link CurrentUser} 파라미터 처리.
+ * 조회 결과를 요청 속성에 보관하여, 같은 요청 안에서는 캐시 조회도 한 번만 일어납니다.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+
+    private final UserCache userCache;
+
+    public CurrentUserArgumentResolver(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && UserSnapshot.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        UserSnapshot user = resolve(webRequest);
+        CurrentUser annotation = parameter.getParameterAnnotation(CurrentUser.class);
+        if (user == null && annotation != null && annotation.required()) {
+            throw new IllegalStateException("로그인된 사용자를 찾을 수 없습니다.");
+        }
+        return user;
+    }
+
+    @SuppressWarnings("unchecked")
+    private UserSnapshot resolve(NativeWebRequest webRequest) {
+        Object memo = webRequest.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo != null) {
+            return ((Optional<UserSnapshot>) memo).orElse(null);
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<UserSnapshot> user = authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken
+                ? Optional.empty()
+                : userCache.find(authentication.getName());
+
+        webRequest.setAttribute(REQUEST_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        return user.orElse(null);
+    }
+}
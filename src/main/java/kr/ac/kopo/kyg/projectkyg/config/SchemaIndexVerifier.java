@@ -0,0 +1,73 @@
+package kr.ac.kopo.kyg.projectkyg.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시작 시 주요 조회 경로의 인덱스/유니크 제약이 실제 DB 에 있는지 확인합니다.
+ * 하나라도 없으면 (마이그레이션 누락 등) 느린 풀스캔으로 운영되지 않도록 기동을 중단합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchemaIndexVerifier implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    /** 테이블별 필수 인덱스 (db/migration 참고) */
+    private static final Map<String, List<String>> REQUIRED_INDEXES = Map.of(
+            "submissions", List.of("uk_submissions_assignment_user", "idx_submissions_storage_key"),
+            "teams", List.of("idx_teams_manager_username", "idx_teams_manager_name", "idx_teams_name_id"),
+            "assignments", List.of("idx_assignments_team_deadline"),
+            "users", List.of("idx_users_name_id"),
+            "upload_sessions", List.of("idx_upload_sessions_last_activity"),
+            "user_team_status", List.of("idx_user_team_status_team")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public SchemaIndexVerifier(JdbcTemplate jdbcTemplate,
+                               @Value("${schema.index-check.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> missing = new ArrayList<>();
+        REQUIRED_INDEXES.forEach((table, indexes) -> {
+            Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT LOWER(index_name) FROM information_schema.statistics"
+                            + " WHERE table_schema = DATABASE() AND LOWER(table_name) = ?",
+                    String.class, table));
+            for (String index : indexes) {
+                if (!existing.contains(index)) {
+                    missing.add(table + "." + index);
+                }
+            }
+        });
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("필수 인덱스가 없습니다: " + missing
+                    + " (Flyway 마이그레이션이 적용되었는지 확인하세요)");
+        }
+        log.info("필수 인덱스 확인 완료 ({}개 테이블)", REQUIRED_INDEXES.size());
+    }
+}
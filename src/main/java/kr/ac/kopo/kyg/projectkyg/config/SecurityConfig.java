@@ -1,12 +1,17 @@
 package kr.ac.kopo.kyg.projectkyg.config;
 
+import jakarta.servlet.http.HttpServletRequest;
 import kr.ac.kopo.kyg.projectkyg.domain.User;
 import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,15 +19,34 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Collections;
 
 @Configuration
 public class SecurityConfig {
 
     private final UserRepository userRepository;
+    // Prometheus 스크레이프용 Bearer 토큰 (비어 있으면 관리자만)
+    private final byte[] scrapeAuthorization;
 
-    public SecurityConfig(UserRepository userRepository) {
+    public SecurityConfig(UserRepository userRepository,
+                          @Value("${management.prometheus.scrape-token:}") String scrapeToken) {
         this.userRepository = userRepository;
+        this.scrapeAuthorization = scrapeToken.isBlank() ? null
+                : ("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    // 원격 주소가 아닌 자격 증명으로 판단 (같은 호스트의 프록시 뒤에서는 모든 요청이 127.0.0.1 에서 옴)
+    private boolean hasScrapeToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return scrapeAuthorization != null && authorization != null
+                && MessageDigest.isEqual(scrapeAuthorization, authorization.getBytes(StandardCharsets.UTF_8));
     }
 
     @Bean
@@ -30,6 +54,7 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // 🟢 로그인은 항상 DB 에서 확인 (다른 인스턴스에서 바꾼 비밀번호/권한/삭제가 바로 반영되도록 캐시를 거치지 않음)
     @Bean
     public UserDetailsService userDetailsService() {
         return username -> {
@@ -60,6 +85,13 @@ public class SecurityConfig {
                         // .hasAnyAuthority()를 사용하여 권한으로 체크
                         .requestMatchers("/main").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
                         .requestMatchers("/admin/**").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Prometheus 스크레이프: 스크레이프 토큰이 있으면 로그인 없이, 그 외에는 관리자만
+                        .requestMatchers("/actuator/prometheus").access((authentication, context) ->
+                                new AuthorizationDecision(hasScrapeToken(context.getRequest())
+                                        || isAdmin(authentication.get())))
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers("/assignments/*/uploads/**").authenticated()
                         .anyRequest().permitAll()
                 )
                 .formLogin(formLogin -> formLogin
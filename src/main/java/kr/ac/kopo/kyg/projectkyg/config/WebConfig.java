@@ -0,0 +1,45 @@
+package kr.ac.kopo.kyg.projectkyg.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    public WebConfig(CurrentUserArgumentResolver currentUserArgumentResolver) {
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+    }
+
+    // @CurrentUser 파라미터 주입
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    /**
+     * 멀티파트 크기 제한을 제출 파일 최대 크기(submission.upload.max-size)에서 계산합니다.
+     * 요청 전체 크기는 파일 크기 + 경계/헤더/폼 필드 여유분이며, 나머지 설정은 spring.servlet.multipart.* 를 따릅니다.
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties multipartProperties,
+                                                         @Value("${submission.upload.max-size:100MB}") DataSize maxUploadSize,
+                                                         @Value("${submission.upload.request-overhead:1MB}") DataSize requestOverhead) {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setLocation(multipartProperties.getLocation());
+        factory.setFileSizeThreshold(multipartProperties.getFileSizeThreshold());
+        factory.setMaxFileSize(maxUploadSize);
+        factory.setMaxRequestSize(DataSize.ofBytes(maxUploadSize.toBytes() + requestOverhead.toBytes()));
+        return factory.createMultipartConfig();
+    }
+}
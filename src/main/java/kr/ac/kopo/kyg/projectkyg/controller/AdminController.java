@@ -1,10 +1,17 @@
 package kr.ac.kopo.kyg.projectkyg.controller;
 
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
 import kr.ac.kopo.kyg.projectkyg.domain.Role;
 import kr.ac.kopo.kyg.projectkyg.domain.Team;
 import kr.ac.kopo.kyg.projectkyg.domain.User;
+import kr.ac.kopo.kyg.projectkyg.job.BackgroundJobService;
 import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
 import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import kr.ac.kopo.kyg.projectkyg.service.ContentVersions;
+import kr.ac.kopo.kyg.projectkyg.service.TeamDeletionService;
+import kr.ac.kopo.kyg.projectkyg.service.UserCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
@@ -18,16 +25,31 @@ import java.util.List;
 @RequestMapping("/admin")
 public class AdminController {
 
+    /** 관리자 목록 한 페이지 크기 */
+    private static final int PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final TeamDeletionService teamDeletionService;
+    private final BackgroundJobService jobService;
+    private final ContentVersions contentVersions;
 
     public AdminController(UserRepository userRepository,
                            TeamRepository teamRepository,
-                           PasswordEncoder passwordEncoder) {
+                           PasswordEncoder passwordEncoder,
+                           UserCache userCache,
+                           TeamDeletionService teamDeletionService,
+                           BackgroundJobService jobService,
+                           ContentVersions contentVersions) {
         this.userRepository = userRepository;
         this.teamRepository = teamRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.teamDeletionService = teamDeletionService;
+        this.jobService = jobService;
+        this.contentVersions = contentVersions;
     }
 
     /** 관리자 체크 유틸리티 */
@@ -40,15 +62,43 @@ public class AdminController {
         }
     }
 
+    /** 검색어를 LIKE 접두 검색 패턴으로 변환 ('!'를 이스케이프 문자로 사용) */
+    private static String prefixPattern(String q) {
+        String escaped = q.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return escaped + "%";
+    }
+
     // --- 사용자 관리 ---
 
-    /** 관리자 페이지 - 사용자 관리 */
+    /**
+     * 관리자 페이지 - 사용자 관리 (키셋 페이지네이션)
+     * after/afterId 는 직전 페이지 마지막 행의 정렬 키이며, 비어 있으면 첫 페이지입니다.
+     */
     @GetMapping("/users")
-    public String adminPage(Model model, Authentication authentication) {
+    public String adminPage(@RequestParam(defaultValue = "") String q,
+                            @RequestParam(defaultValue = "username") String sort,
+                            @RequestParam(defaultValue = "") String after,
+                            @RequestParam(defaultValue = "0") Long afterId,
+                            Model model,
+                            Authentication authentication) {
         checkAdmin(authentication);
 
-        List<User> allUsers = userRepository.findAll();
-        model.addAttribute("users", allUsers);
+        boolean byName = "name".equals(sort);
+        Slice<User> users = byName
+                ? userRepository.findPageOrderByName(prefixPattern(q), after, afterId, PageRequest.ofSize(PAGE_SIZE))
+                : userRepository.findPageOrderByUsername(prefixPattern(q), after, PageRequest.ofSize(PAGE_SIZE));
+
+        model.addAttribute("users", users.getContent());
+        model.addAttribute("q", q);
+        model.addAttribute("sort", byName ? "name" : "username");
+        if (users.hasNext()) {
+            User last = users.getContent().get(users.getNumberOfElements() - 1);
+            model.addAttribute("nextAfter", byName ? last.getName() : last.getUsername());
+            model.addAttribute("nextAfterId", last.getId());
+        }
         return "admin_users";
     }
 
@@ -68,6 +118,7 @@ public class AdminController {
 
         // 1. 🟢 이름 변경 여부를 미리 확인
         String oldName = user.getName();
+        String oldUsername = user.getUsername();
         boolean nameChanged = !oldName.equals(name);
 
         // 사용자 엔티티 정보 업데이트
@@ -79,6 +130,8 @@ public class AdminController {
         user.setRole(Role.valueOf(role));
 
         userRepository.save(user);
+        // 사용자 캐시 무효화 (아이디가 바뀐 경우 이전 아이디 포함)
+        userCache.evict(oldUsername, username);
 
         // 2. 🟢 이름이 변경되었다면 팀장 이름 동기화 로직 수행
         if (nameChanged) {
@@ -92,51 +145,52 @@ public class AdminController {
             // 변경된 팀 엔티티들을 일괄 저장합니다.
             teamRepository.saveAll(teamsToUpdate);
         }
+        // 이름/권한이 보이는 화면(제출 목록, 팀장 이름 등)의 ETag 무효화
+        contentVersions.touchAll();
 
         return "redirect:/admin/users";
     }
 
-    /** 유저 삭제 처리 */
+    /** 유저 삭제 처리 (백그라운드 작업으로 요청 후 작업 목록으로 이동) */
     @PostMapping("/users/delete")
-    @Transactional
     public String deleteUser(@RequestParam Long userId, Authentication authentication) {
         checkAdmin(authentication);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-        // 1. 🟢 해당 유저가 팀장인 모든 팀의 manager 정보를 'NULL' 문자열로 초기화
-        List<Team> managedTeams = teamRepository.findByManagerUsername(user.getUsername());
-
-        for (Team team : managedTeams) {
-            // NOT NULL 제약 조건 유지를 위해 문자열 "NULL" 사용
-            team.setManagerName("NULL");
-            team.setManagerUsername("NULL");
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalStateException("사용자를 찾을 수 없습니다.");
         }
-        // 변경된 팀 엔티티들을 일괄 저장합니다.
-        teamRepository.saveAll(managedTeams);
 
-        // 2. 유저가 멤버로 속한 팀에서 해당 유저를 제거합니다. (ManyToMany 관계 해제)
-        for (Team team : user.getTeams()) {
-            team.getUsers().remove(user);
-            userRepository.save(user);
-        }
-
-        // 3. 유저 삭제
-        userRepository.delete(user);
+        // 팀장인 팀은 고아 팀("NULL")으로 전환, 팀 가입 관계/제출물 삭제 후 유저 삭제 (UserDeletionService)
+        jobService.enqueue(JobType.USER_DELETION, userId, authentication.getName());
 
-        return "redirect:/admin/users";
+        return "redirect:/admin/jobs";
     }
 
     // --- 팀 관리 ---
 
-    /** 관리자 페이지 - 팀 관리 */
+    /** 관리자 페이지 - 팀 관리 (키셋 페이지네이션, 사용자 관리와 같은 규칙) */
     @GetMapping("/teams")
-    public String adminTeams(Model model, Authentication authentication) {
+    public String adminTeams(@RequestParam(defaultValue = "") String q,
+                             @RequestParam(defaultValue = "id") String sort,
+                             @RequestParam(defaultValue = "") String after,
+                             @RequestParam(defaultValue = "0") Long afterId,
+                             Model model,
+                             Authentication authentication) {
         checkAdmin(authentication);
 
-        List<Team> teams = teamRepository.findAll();
-        model.addAttribute("teams", teams);
+        boolean byName = "name".equals(sort);
+        Slice<Team> teams = byName
+                ? teamRepository.findPageOrderByName(prefixPattern(q), after, afterId, PageRequest.ofSize(PAGE_SIZE))
+                : teamRepository.findPageOrderById(prefixPattern(q), afterId, PageRequest.ofSize(PAGE_SIZE));
+
+        model.addAttribute("teams", teams.getContent());
+        model.addAttribute("q", q);
+        model.addAttribute("sort", byName ? "name" : "id");
+        if (teams.hasNext()) {
+            Team last = teams.getContent().get(teams.getNumberOfElements() - 1);
+            model.addAttribute("nextAfter", byName ? last.getName() : "");
+            model.addAttribute("nextAfterId", last.getId());
+        }
         return "admin_teams";
     }
 
@@ -161,53 +215,35 @@ public class AdminController {
         }
 
         teamRepository.save(team);
+        contentVersions.touchTeam(teamId);
+        contentVersions.touchTeamList();
         return "redirect:/admin/teams";
     }
 
 
     /** 팀 삭제 처리 (관리자용) */
     @PostMapping("/teams/delete")
-    @Transactional
     public String deleteTeamByAdmin(@RequestParam Long teamId, Authentication authentication) {
         checkAdmin(authentication);
 
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
-
-        // 팀과 사용자 관계만 제거
-        for (User user : team.getUsers()) {
-            user.getTeams().remove(team);
-            userRepository.save(user);
+        if (!teamRepository.existsById(teamId)) {
+            throw new IllegalStateException("팀을 찾을 수 없습니다.");
         }
 
-        // Team 삭제 (Assignment와 Submission은 cascade로 자동 삭제)
-        teamRepository.delete(team);
+        // 과제/제출물/팀원 관계까지 일괄 삭제 (팀원·팀장 캐시 무효화 포함)
+        teamDeletionService.deleteTeam(teamId);
 
         return "redirect:/admin/teams";
     }
 
     /** 🟢 팀 일괄 정리 처리 (managerName이 "NULL"인 고아 팀 삭제) */
     @PostMapping("/teams/cleanup")
-    @Transactional
     public String cleanupOrphanTeams(Authentication authentication) {
         checkAdmin(authentication);
 
-        // 1. managerName이 "NULL" 문자열인 팀을 모두 조회
-        // (TeamRepository에 findByManagerName("NULL") 메서드가 정의되어 있어야 합니다.)
-        List<Team> orphanTeams = teamRepository.findByManagerName("NULL");
-
-        // 2. 각 팀을 순회하며 삭제 처리
-        for (Team team : orphanTeams) {
-            // 팀 삭제 전에, 팀과 사용자 관계를 먼저 제거 (다대다 관계 해제)
-            for (User user : team.getUsers()) {
-                user.getTeams().remove(team);
-                userRepository.save(user);
-            }
-
-            // 팀 삭제
-            teamRepository.delete(team);
-        }
+        // managerName이 "NULL" 문자열인 팀을 배치 단위로 일괄 삭제하는 백그라운드 작업 요청
+        jobService.enqueue(JobType.ORPHAN_TEAM_CLEANUP, null, authentication.getName());
 
-        return "redirect:/admin/teams";
+        return "redirect:/admin/jobs";
     }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package kr.ac.kopo.kyg.projectkyg.controller;
+
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobStatus;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import kr.ac.kopo.kyg.projectkyg.job.BackgroundJobService;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 백그라운드 작업 목록/취소/재시도. (/admin/** 는 SecurityConfig 에서 관리자만 허용)
+ * 목록 페이지는 진행 중인 작업이 있는 동안 /admin/jobs/status 를 주기적으로 조회합니다.
+ */
+@Controller
+@RequestMapping("/admin/jobs")
+public class AdminJobController {
+
+    private final BackgroundJobService jobService;
+
+    public AdminJobController(BackgroundJobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /** 작업 상태 응답 */
+    public record JobView(Long id, String type, JobStatus status, boolean active,
+                          long progressDone, Long progressTotal, boolean cancelRequested, String message,
+                          String requestedBy, LocalDateTime createdAt, LocalDateTime finishedAt) {
+
+        static JobView of(BackgroundJob job) {
+            return new JobView(job.getId(), job.getType().getLabel(), job.getStatus(), job.getStatus().isActive(),
+                    job.getProgressDone(), job.getProgressTotal(), job.isCancelRequested(), job.getMessage(),
+                    job.getRequestedBy(), job.getCreatedAt(), job.getFinishedAt());
+        }
+    }
+
+    /** 작업 목록 페이지 */
+    @GetMapping
+    public String jobs(Model model) {
+        model.addAttribute("jobs", recentJobs());
+        return "admin_jobs";
+    }
+
+    /** 작업 목록 (폴링용 JSON) */
+    @GetMapping("/status")
+    @ResponseBody
+    public List<JobView> status() {
+        return recentJobs();
+    }
+
+    /** 제출 파일(BLOB) 이관 요청 */
+    @PostMapping("/blob-migration")
+    public String migrateBlobs(Authentication authentication) {
+        jobService.enqueue(JobType.SUBMISSION_BLOB_MIGRATION, null, authentication.getName());
+        return "redirect:/admin/jobs";
+    }
+
+    @PostMapping("/{id}/cancel")
+    public String cancel(@PathVariable Long id) {
+        jobService.cancel(id);
+        return "redirect:/admin/jobs";
+    }
+
+    @PostMapping("/{id}/retry")
+    public String retry(@PathVariable Long id) {
+        jobService.retry(id);
+        return "redirect:/admin/jobs";
+    }
+
+    private List<JobView> recentJobs() {
+        return jobService.recentJobs().stream().map(JobView::of).toList();
+    }
+}
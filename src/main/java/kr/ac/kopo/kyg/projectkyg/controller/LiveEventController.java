@@ -0,0 +1,85 @@
+package kr.ac.kopo.kyg.projectkyg.controller;
+
+import kr.ac.kopo.kyg.projectkyg.config.CurrentUser;
+import kr.ac.kopo.kyg.projectkyg.domain.UserTeamStatus;
+import kr.ac.kopo.kyg.projectkyg.event.LiveEventHub;
+import kr.ac.kopo.kyg.projectkyg.repository.UserTeamStatusRepository;
+import kr.ac.kopo.kyg.projectkyg.service.UserSnapshot;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 실시간 현황(SSE) API. 화면을 새로고침하며 확인하던 제출/과제/마감 변화를 서버가 밀어줍니다.
+ * <pre>
+ * GET /events                    가입한 모든 팀의 이벤트 (메인 화면)
+ * GET /projects/{teamId}/events  한 팀의 이벤트 (과제 목록 화면)
+ * GET /teams/{teamId}/status     내 미제출 과제 수 (이벤트를 받은 메인 화면이 카드만 갱신할 때)
+ * </pre>
+ * 이벤트: submission-accepted(본인/팀장), assignment-added, assignment-deleted, deadline-passed
+ */
+@RestController
+public class LiveEventController {
+
+    private final LiveEventHub liveEventHub;
+    private final UserTeamStatusRepository userTeamStatusRepository;
+
+    public LiveEventController(LiveEventHub liveEventHub,
+                               UserTeamStatusRepository userTeamStatusRepository) {
+        this.liveEventHub = liveEventHub;
+        this.userTeamStatusRepository = userTeamStatusRepository;
+    }
+
+    /** 팀 카드 갱신용 응답 */
+    public record TeamStatus(Long teamId, int openUnsubmitted) {
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> userEvents(@CurrentUser UserSnapshot user) {
+        Set<Long> teamIds = new HashSet<>(user.teamIds());
+        teamIds.addAll(user.managedTeamIds());
+        return subscribe(user, teamIds);
+    }
+
+    @GetMapping(path = "/projects/{teamId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> teamEvents(@PathVariable Long teamId, @CurrentUser UserSnapshot user) {
+        requireTeamAccess(user, teamId);
+        return subscribe(user, Set.of(teamId));
+    }
+
+    @GetMapping("/teams/{teamId}/status")
+    public TeamStatus teamStatus(@PathVariable Long teamId, @CurrentUser UserSnapshot user) {
+        requireTeamAccess(user, teamId);
+        int open = userTeamStatusRepository.findById(new UserTeamStatus.Key(user.id(), teamId))
+                .map(UserTeamStatus::getOpenUnsubmitted)
+                .orElse(0);
+        return new TeamStatus(teamId, open);
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalState(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", e.getMessage()));
+    }
+
+    private ResponseEntity<SseEmitter> subscribe(UserSnapshot user, Set<Long> teamIds) {
+        // 동시 연결 수 제한: 브라우저는 retry 간격 뒤 다시 연결
+        return liveEventHub.subscribe(user, teamIds)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    private static void requireTeamAccess(UserSnapshot user, Long teamId) {
+        if (!user.isMemberOf(teamId) && !user.isManagerOf(teamId)) {
+            throw new IllegalStateException("팀에 가입한 사용자만 볼 수 있습니다.");
+        }
+    }
+}
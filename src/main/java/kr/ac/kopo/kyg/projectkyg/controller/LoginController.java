@@ -3,6 +3,7 @@ package kr.ac.kopo.kyg.projectkyg.controller;
 import kr.ac.kopo.kyg.projectkyg.domain.User;
 import kr.ac.kopo.kyg.projectkyg.domain.Role;
 import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import kr.ac.kopo.kyg.projectkyg.service.UserCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
@@ -16,11 +17,13 @@ public class LoginController {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
     @Autowired
-    public LoginController(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public LoginController(UserRepository userRepository, PasswordEncoder passwordEncoder, UserCache userCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
     }
 
     @GetMapping("/login")
@@ -61,6 +64,7 @@ public class LoginController {
 
         // 3. User 객체를 데이터베이스에 저장
         userRepository.save(newUser);
+        userCache.evict(username);
 
         System.out.println("새 사용자 등록: " + username);
 
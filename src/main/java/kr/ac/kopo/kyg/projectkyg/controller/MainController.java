@@ -1,5 +1,6 @@
 package kr.ac.kopo.kyg.projectkyg.controller;
 
+import kr.ac.kopo.kyg.projectkyg.config.CurrentUser;
 import kr.ac.kopo.kyg.projectkyg.domain.Assignment;
 import kr.ac.kopo.kyg.projectkyg.domain.Team;
 import kr.ac.kopo.kyg.projectkyg.domain.User;
@@ -8,25 +9,36 @@ import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
 import kr.ac.kopo.kyg.projectkyg.repository.SubmissionRepository;
 import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
 import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.DownloadValidator;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.TeamDashboardRow;
+import kr.ac.kopo.kyg.projectkyg.service.ContentVersions;
+import kr.ac.kopo.kyg.projectkyg.service.SubmissionService;
+import kr.ac.kopo.kyg.projectkyg.service.UserCache;
+import kr.ac.kopo.kyg.projectkyg.service.UserSnapshot;
+import kr.ac.kopo.kyg.projectkyg.service.UserTeamStatusService;
+import kr.ac.kopo.kyg.projectkyg.storage.StorageLimitExceededException;
+import kr.ac.kopo.kyg.projectkyg.storage.StoredContent;
+import kr.ac.kopo.kyg.projectkyg.storage.SubmissionBlobMigrationJob;
+import kr.ac.kopo.kyg.projectkyg.storage.SubmissionDownloadWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import jakarta.transaction.Transactional;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Controller
 public class MainController {
@@ -36,53 +48,50 @@ public class MainController {
     private final AssignmentRepository assignmentRepository;
     private final SubmissionRepository submissionRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SubmissionService submissionService;
+    private final SubmissionBlobMigrationJob blobMigrationJob;
+    private final SubmissionDownloadWriter downloadWriter;
+    private final UserCache userCache;
+    private final UserTeamStatusService userTeamStatusService;
+    private final ContentVersions contentVersions;
 
     public MainController(UserRepository userRepository,
                           TeamRepository teamRepository,
                           AssignmentRepository assignmentRepository,
                           SubmissionRepository submissionRepository,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder,
+                          SubmissionService submissionService,
+                          SubmissionBlobMigrationJob blobMigrationJob,
+                          SubmissionDownloadWriter downloadWriter,
+                          UserCache userCache,
+                          UserTeamStatusService userTeamStatusService,
+                          ContentVersions contentVersions) {
         this.userRepository = userRepository;
         this.teamRepository = teamRepository;
         this.assignmentRepository = assignmentRepository;
         this.submissionRepository = submissionRepository;
         this.passwordEncoder = passwordEncoder;
+        this.submissionService = submissionService;
+        this.blobMigrationJob = blobMigrationJob;
+        this.downloadWriter = downloadWriter;
+        this.userCache = userCache;
+        this.userTeamStatusService = userTeamStatusService;
+        this.contentVersions = contentVersions;
     }
 
     /** 메인 페이지 */
     @GetMapping("/main")
-    public String mainPage(Model model, Authentication authentication) {
+    public String mainPage(Model model,
+                           Authentication authentication,
+                           @CurrentUser(required = false) UserSnapshot currentUser) {
         String usernameFromAuth = Optional.ofNullable(authentication)
                 .map(Authentication::getName)
                 .orElse("Guest");
 
-        Optional<User> optionalUser = userRepository.findByUsername(usernameFromAuth);
+        String displayName = currentUser != null ? currentUser.name() : "Guest";
 
-        String displayName = "Guest";
-        List<Team> userTeams = teamRepository.findTeamsByUsername(usernameFromAuth);
-
-        User loggedInUser = null;
-        if (optionalUser.isPresent()) {
-            loggedInUser = optionalUser.get();
-            displayName = loggedInUser.getName();
-        }
-
-        // 🟢 수정된 로직: 남은 시간 계산 대신 미제출 과제 유무 확인
-        if (loggedInUser != null) {
-            for (Team team : userTeams) {
-                // 팀장 이름 설정 (이전 수정사항 유지)
-                userRepository.findByUsername(team.getManagerUsername()).ifPresent(team::setManagerUser);
-
-                // 💥 오류 해결 및 기능 추가: 현재 사용자가 이 팀의 팀장인지 확인하여 설정합니다.
-                boolean isTeamManager = loggedInUser.getUsername().equals(team.getManagerUsername());
-                team.setIsTeamManager(isTeamManager);
-
-                // 미제출 마감 예정 과제 유무 확인
-                boolean hasUnsubmitted = hasUnsubmittedFutureAssignment(team.getId(), loggedInUser.getId());
-                team.setHasUnsubmittedAssignment(hasUnsubmitted);
-            }
-        }
-        // -------------------------------------------------------------
+        // 🟢 팀 목록 + 팀장 이름 + 미제출 과제 유무를 한 번의 쿼리로 조회 (미제출 여부는 미리 계산된 값)
+        List<TeamDashboardRow> userTeams = teamRepository.findDashboardRows(usernameFromAuth);
 
         model.addAttribute("username", displayName);
         model.addAttribute("teams", userTeams);
@@ -96,42 +105,15 @@ public class MainController {
         return "main";
     }
 
-    /**
-     * 🟢 추가된 메서드: 특정 팀에서 현재 로그인한 사용자에게 마감 기한이 미래이며 미제출된 과제가 있는지 확인합니다.
-     */
-    private boolean hasUnsubmittedFutureAssignment(Long teamId, Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-
-        // 1. 해당 팀의 모든 과제를 가져옵니다.
-        List<Assignment> assignments = assignmentRepository.findByTeamId(teamId);
-
-        if (assignments.isEmpty()) {
-            return false;
-        }
-
-        // 2. 마감 기한이 미래인 과제를 순회하며 미제출 상태인지 확인합니다.
-        for (Assignment assignment : assignments) {
-            // 마감 기한이 현재 시각보다 미래이고
-            if (assignment.getDeadline().isAfter(now)) {
-                // 해당 과제를 제출했는지 확인
-                Optional<Submission> submission = submissionRepository.findByAssignmentIdAndUserId(assignment.getId(), userId);
-
-                // 제출하지 않았다면
-                if (submission.isEmpty()) {
-                    // 미제출된 미래 과제가 발견되면 즉시 true 반환
-                    return true;
-                }
-            }
-        }
-
-        return false; // 미제출된 미래 과제가 없음
-    }
-
     // ❌ 이전의 getNearestDeadlineMillis 메서드는 제거되었습니다.
 
     /** 팀 가입 폼 */
     @GetMapping("/teams/join")
-    public String joinTeamForm(Model model) {
+    public String joinTeamForm(Model model, ServletWebRequest webRequest) {
+        // 팀 목록이 바뀌지 않았으면 조회 없이 304
+        if (contentVersions.checkNotModified(webRequest, contentVersions.teamListTag())) {
+            return null;
+        }
         List<Team> allTeams = teamRepository.findAll();
         model.addAttribute("teams", allTeams);
         return "joinTeam";
@@ -167,6 +149,8 @@ public class MainController {
         loggedInUser.getTeams().add(teamToJoin);
 
         teamRepository.save(teamToJoin);
+        userTeamStatusService.refreshMember(teamToJoin.getId(), loggedInUser.getId());
+        userCache.evict(loggedInUser.getUsername());
 
         return "redirect:/main";
     }
@@ -190,6 +174,8 @@ public class MainController {
 
         teamRepository.save(team);
         userRepository.save(user);
+        userTeamStatusService.refreshMember(team.getId(), user.getId());
+        userCache.evict(user.getUsername());
 
         return "redirect:/main";
     }
@@ -200,27 +186,23 @@ public class MainController {
     @GetMapping("/assignments/{assignmentId}/submit")
     public String submitAssignmentForm(@PathVariable Long assignmentId,
                                        Model model,
-                                       Authentication authentication) {
+                                       @CurrentUser UserSnapshot user) {
         Assignment assignment = assignmentRepository.findById(assignmentId)
                 .orElseThrow(() -> new IllegalStateException("과제를 찾을 수 없습니다."));
 
-        User user = userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new IllegalStateException("로그인된 사용자를 찾을 수 없습니다."));
-
         // 기존 제출물 조회 및 모델에 추가 (HTML에서 제출 상태 확인용)
-        Optional<Submission> existingSubmission = submissionRepository.findByAssignmentIdAndUserId(assignmentId, user.getId());
+        Optional<Submission> existingSubmission = submissionRepository.findByAssignmentIdAndUserId(assignmentId, user.id());
 
         model.addAttribute("assignment", assignment);
         model.addAttribute("user", user);
         model.addAttribute("submission", existingSubmission.orElse(null));
-        model.addAttribute("username", user.getName());
+        model.addAttribute("username", user.name());
         model.addAttribute("teamId", assignment.getTeam().getId());
 
         return "submit_project";
     }
 
     /** 과제 제출 처리 (POST) - 마감일 확인 및 파일명 수정 로직 포함 */
-    @Transactional
     @PostMapping("/assignments/{assignmentId}/submit")
     public String saveSubmission(@PathVariable Long assignmentId,
                                  @RequestParam("file") MultipartFile file,
@@ -232,58 +214,28 @@ public class MainController {
             return "redirect:/assignments/" + assignmentId + "/submit";
         }
 
-        Assignment assignment = assignmentRepository.findById(assignmentId)
-                .orElseThrow(() -> new IllegalStateException("과제를 찾을 수 없습니다."));
-
-        User user = userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new IllegalStateException("로그인된 사용자를 찾을 수 없습니다."));
-
-        // 1. 마감일 체크 로직
-        LocalDateTime now = LocalDateTime.now();
-        boolean isLate = now.isAfter(assignment.getDeadline());
-
-        // 2. 파일 데이터 및 메타데이터 준비 (BLOB 방식)
-        String originalFilename = file.getOriginalFilename();
-
-        // 지연 제출일 경우 파일명 앞에 접두사 추가
-        if (isLate) {
-            originalFilename = "[지연]" + originalFilename;
+        // 허용 크기를 넘는 파일은 저장소에 쓰기 전에 거절
+        if (file.getSize() > submissionService.getMaxUploadBytes()) {
+            redirectAttributes.addFlashAttribute("error", "파일 크기가 허용된 최대 크기를 초과했습니다.");
+            return "redirect:/assignments/" + assignmentId + "/submit";
         }
 
-        String storedUniqueName = UUID.randomUUID().toString() + "_" + originalFilename;
-
-        byte[] fileData;
-        try {
-            // 파일을 byte 배열로 변환하여 메모리에 로드 (BLOB)
-            fileData = file.getBytes();
-
-        } catch (Exception e) {
+        SubmissionService.SubmitResult result;
+        try (InputStream content = file.getInputStream()) {
+            // 업로드는 디스크에 임시 저장된 파트에서 고정 크기 버퍼로 저장소에 스트리밍
+            result = submissionService.submit(assignmentId, authentication.getName(), content,
+                    file.getOriginalFilename(), file.getContentType(), LocalDateTime.now());
+        } catch (StorageLimitExceededException e) {
+            redirectAttributes.addFlashAttribute("error", "파일 크기가 허용된 최대 크기를 초과했습니다.");
+            return "redirect:/assignments/" + assignmentId + "/submit";
+        } catch (IOException e) {
             redirectAttributes.addFlashAttribute("error", "파일 처리 중 오류가 발생했습니다: " + e.getMessage());
             return "redirect:/assignments/" + assignmentId + "/submit";
         }
 
-        // 3. 기존 제출물 확인 및 업데이트 (재제출 처리)
-        Optional<Submission> existingSubmission = submissionRepository.findByAssignmentIdAndUserId(assignmentId, user.getId());
-
-        Submission submission;
-        String message;
-        if (existingSubmission.isPresent()) {
-            submission = existingSubmission.get();
-            message = "과제가 성공적으로 **수정 제출**되었습니다.";
-        } else {
-            submission = new Submission();
-            submission.setUser(user);
-            submission.setAssignment(assignment);
-            message = "과제가 성공적으로 제출되었습니다.";
-        }
-
-        // 4. Submission 엔티티 업데이트/저장
-        submission.setFileName(originalFilename); // 지연 제출 접두사가 붙은 파일명 저장
-        submission.setStoredUniqueName(storedUniqueName);
-        submission.setFileData(fileData);
-        submission.setSubmittedAt(now); // 현재 시간을 제출 시간으로 저장
-
-        submissionRepository.save(submission);
+        String message = result.resubmitted()
+                ? "과제가 성공적으로 **수정 제출**되었습니다."
+                : "과제가 성공적으로 제출되었습니다.";
 
         // 5. 리다이렉트 전에 성공 메시지 전달
         redirectAttributes.addFlashAttribute("message", message);
@@ -294,17 +246,32 @@ public class MainController {
 
     /** 제출 파일 다운로드 */
     @GetMapping("/assignments/download/{submissionId}")
-    public ResponseEntity<ByteArrayResource> downloadSubmission(@PathVariable Long submissionId) {
+    public void downloadSubmission(@PathVariable Long submissionId,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        // 같은 파일을 다시 받는 경우: 엔티티/파일을 읽기 전에 체크섬(강한 ETag)과 제출 시각만 비교해 304
+        Optional<DownloadValidator> validator = submissionRepository.findDownloadValidator(submissionId);
+        if (validator.isPresent() && downloadWriter.checkNotModified(request, response,
+                validator.get().checksum(), validator.get().contentEncoding(), toInstant(validator.get().submittedAt()))) {
+            return;
+        }
+
         Submission submission = submissionRepository.findById(submissionId)
                 .orElseThrow(() -> new IllegalStateException("제출 파일을 찾을 수 없습니다."));
 
-        // 파일 다운로드 시 파일명이 깨지지 않도록 인코딩 처리
-        String encodedFileName = URLEncoder.encode(submission.getFileName(), StandardCharsets.UTF_8).replace("+", "%20");
+        // 아직 DB BLOB 에 남아 있는 제출물은 이 시점에 스토리지로 이관
+        StoredContent stored = submission.getStorageKey() != null
+                ? new StoredContent(submission.getStorageKey(), submission.getFileSize(), submission.getChecksum(),
+                        submission.getStoredSize() != null ? submission.getStoredSize() : submission.getFileSize(),
+                        submission.getContentEncoding())
+                : blobMigrationJob.migrateOne(submissionId)
+                        .orElseThrow(() -> new IllegalStateException("제출 파일을 찾을 수 없습니다."));
+
+        // 파일 내용을 힙에 올리지 않고 저장소에서 응답으로 바로 전송 (Range 지원)
+        downloadWriter.write(request, response, stored, submission.getFileName(), toInstant(submission.getSubmittedAt()));
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + encodedFileName + "\"")
-                .body(new ByteArrayResource(submission.getFileData()));
+    private static Instant toInstant(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant() : null;
     }
 }
\ No newline at end of file
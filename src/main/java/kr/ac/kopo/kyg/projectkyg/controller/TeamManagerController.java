@@ -1,23 +1,38 @@
 package kr.ac.kopo.kyg.projectkyg.controller;
 
+import kr.ac.kopo.kyg.projectkyg.config.CurrentUser;
 import kr.ac.kopo.kyg.projectkyg.domain.Assignment;
-import kr.ac.kopo.kyg.projectkyg.domain.Submission; // 👈 Submission import 추가
 import kr.ac.kopo.kyg.projectkyg.domain.Team;
 import kr.ac.kopo.kyg.projectkyg.domain.User;
+import kr.ac.kopo.kyg.projectkyg.event.AssignmentAddedEvent;
+import kr.ac.kopo.kyg.projectkyg.event.AssignmentDeletedEvent;
 import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
 import kr.ac.kopo.kyg.projectkyg.repository.SubmissionRepository;
 import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
 import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.SubmissionSummary;
+import kr.ac.kopo.kyg.projectkyg.service.AssignmentDeadlineScheduler;
+import kr.ac.kopo.kyg.projectkyg.service.ContentVersions;
+import kr.ac.kopo.kyg.projectkyg.service.TeamDeletionService;
+import kr.ac.kopo.kyg.projectkyg.service.UserCache;
+import kr.ac.kopo.kyg.projectkyg.service.UserSnapshot;
+import kr.ac.kopo.kyg.projectkyg.service.UserTeamStatusService;
+import kr.ac.kopo.kyg.projectkyg.storage.SubmissionArchiveWriter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Controller
 public class TeamManagerController {
@@ -27,17 +42,38 @@ public class TeamManagerController {
     private final AssignmentRepository assignmentRepository;
     private final SubmissionRepository submissionRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final TeamDeletionService teamDeletionService;
+    private final SubmissionArchiveWriter archiveWriter;
+    private final UserTeamStatusService userTeamStatusService;
+    private final AssignmentDeadlineScheduler deadlineScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersions contentVersions;
 
     public TeamManagerController(UserRepository userRepository,
                                  TeamRepository teamRepository,
                                  AssignmentRepository assignmentRepository,
                                  SubmissionRepository submissionRepository,
-                                 PasswordEncoder passwordEncoder) {
+                                 PasswordEncoder passwordEncoder,
+                                 UserCache userCache,
+                                 TeamDeletionService teamDeletionService,
+                                 SubmissionArchiveWriter archiveWriter,
+                                 UserTeamStatusService userTeamStatusService,
+                                 AssignmentDeadlineScheduler deadlineScheduler,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ContentVersions contentVersions) {
         this.userRepository = userRepository;
         this.teamRepository = teamRepository;
         this.assignmentRepository = assignmentRepository;
         this.submissionRepository = submissionRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.teamDeletionService = teamDeletionService;
+        this.archiveWriter = archiveWriter;
+        this.userTeamStatusService = userTeamStatusService;
+        this.deadlineScheduler = deadlineScheduler;
+        this.eventPublisher = eventPublisher;
+        this.contentVersions = contentVersions;
     }
 
     // --- 팀 생성/저장 ---
@@ -73,6 +109,10 @@ public class TeamManagerController {
         loggedInUser.getTeams().add(newTeam);
 
         teamRepository.save(newTeam);
+        userTeamStatusService.refreshMember(newTeam.getId(), loggedInUser.getId());
+        // 팀장/가입 팀 목록이 바뀌었으므로 사용자 캐시 무효화
+        userCache.evict(loggedInUser.getUsername());
+        contentVersions.touchTeamList();
 
         return "redirect:/main";
     }
@@ -81,11 +121,11 @@ public class TeamManagerController {
 
     /** 팀 수정 페이지 */
     @GetMapping("teams/{id}/edit")
-    public String editTeamForm(@PathVariable Long id, Authentication authentication, Model model) {
+    public String editTeamForm(@PathVariable Long id, @CurrentUser UserSnapshot currentUser, Model model) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
 
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        if (!currentUser.isManagerOf(team.getId())) {
             throw new IllegalStateException("팀장만 수정할 수 있습니다.");
         }
 
@@ -100,11 +140,11 @@ public class TeamManagerController {
                              @RequestParam String name,
                              @RequestParam String description,
                              @RequestParam(required = false) String password,
-                             Authentication authentication) {
+                             @CurrentUser UserSnapshot currentUser) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
 
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        if (!currentUser.isManagerOf(team.getId())) {
             throw new IllegalStateException("팀장만 수정할 수 있습니다.");
         }
 
@@ -115,30 +155,25 @@ public class TeamManagerController {
         }
 
         teamRepository.save(team);
+        contentVersions.touchTeam(team.getId());
+        contentVersions.touchTeamList();
         return "redirect:/projects/" + team.getId();
     }
 
     // --- 팀 해체 ---
 
     /** 팀 해체 */
-    @Transactional
     @PostMapping("teams/{id}/delete")
-    public String deleteTeam(@PathVariable Long id, Authentication authentication) {
-        Team team = teamRepository.findById(id)
-                .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
-
-        if (!authentication.getName().equals(team.getManagerUsername())) {
-            throw new IllegalStateException("팀장만 팀을 해체할 수 있습니다.");
+    public String deleteTeam(@PathVariable Long id, @CurrentUser UserSnapshot currentUser) {
+        if (!teamRepository.existsById(id)) {
+            throw new IllegalStateException("팀을 찾을 수 없습니다.");
         }
-
-        // 팀과 사용자 관계만 제거
-        for (User u : team.getUsers()) {
-            u.getTeams().remove(team);
-            userRepository.save(u);
+        if (!currentUser.isManagerOf(id)) {
+            throw new IllegalStateException("팀장만 팀을 해체할 수 있습니다.");
         }
 
-        // Team 삭제 (Assignment와 Submission은 cascade로 자동 삭제)
-        teamRepository.delete(team);
+        // 과제/제출물/팀원 관계까지 일괄 삭제 (캐시 무효화, 파일 정리 포함)
+        teamDeletionService.deleteTeam(id);
 
         return "redirect:/main";
     }
@@ -147,41 +182,36 @@ public class TeamManagerController {
 
     /** 프로젝트 목록 페이지 */
     @GetMapping("/projects/{id}") // 원래 상대 경로였음 → 절대 경로로 변경해야 /projects/{id} 접근 가능
-    public String projectsPage(@PathVariable Long id, Model model, Authentication authentication) {
+    public String projectsPage(@PathVariable Long id, Model model,
+                               @CurrentUser(required = false) UserSnapshot currentUser,
+                               ServletWebRequest webRequest) {
+        // 바뀐 것이 없으면 팀/과제를 읽기 전에 304
+        if (contentVersions.checkNotModified(webRequest, contentVersions.teamTag(id, currentUser))) {
+            return null;
+        }
+
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
         model.addAttribute("team", team);
 
         List<Assignment> assignments = assignmentRepository.findByTeamId(id);
 
-        String username = Optional.ofNullable(authentication)
-                .map(Authentication::getName)
-                .orElse("Guest");
+        String username = currentUser != null ? currentUser.username() : "Guest";
         model.addAttribute("username", username);
 
-        boolean isCreator = authentication != null &&
-                authentication.getName().equals(team.getManagerUsername());
+        boolean isCreator = currentUser != null && currentUser.isManagerOf(id);
         model.addAttribute("isCreator", isCreator);
 
-        Optional<User> optionalUser = userRepository.findByUsername(username);
-        if (optionalUser.isPresent()) {
-            User user = optionalUser.get();
+        if (currentUser != null) {
+            // 제출한 과제 ID 를 한 번에 조회한 뒤 메모리에서 제출 여부 표시
+            Set<Long> submittedIds = submissionRepository.findSubmittedAssignmentIds(currentUser.id(), id);
             for (Assignment assignment : assignments) {
-                boolean submitted = submissionRepository
-                        .findByAssignmentIdAndUserId(assignment.getId(), user.getId())
-                        .isPresent();
-                assignment.setSubmitted(submitted);
+                assignment.setSubmitted(submittedIds.contains(assignment.getId()));
             }
         }
 
         LocalDateTime now = LocalDateTime.now();
-        assignments.sort((a1, a2) -> {
-            boolean a1Past = a1.getDeadline().isBefore(now);
-            boolean a2Past = a2.getDeadline().isBefore(now);
-            if (a1Past && !a2Past) return 1;
-            if (!a1Past && a2Past) return -1;
-            return a1.getDeadline().compareTo(a2.getDeadline());
-        });
+        assignments.sort(Assignment.upcomingFirst(now));
 
         model.addAttribute("assignments", assignments);
         model.addAttribute("now", now);
@@ -193,12 +223,12 @@ public class TeamManagerController {
 
     /** 팀 참가자 관리 페이지 */
     @GetMapping("teams/{teamId}/members")
-    public String manageTeamMembers(@PathVariable Long teamId, Model model, Authentication authentication) {
+    public String manageTeamMembers(@PathVariable Long teamId, Model model, @CurrentUser UserSnapshot currentUser) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
 
         // 팀장만 접근 가능
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        if (!currentUser.isManagerOf(team.getId())) {
             throw new IllegalStateException("팀장만 참가자를 관리할 수 있습니다.");
         }
 
@@ -209,12 +239,12 @@ public class TeamManagerController {
         return "manage_members"; // templates/manage_members.html
     }
     @GetMapping("/projects/{teamId}/add")
-    public String addAssignmentForm(@PathVariable Long teamId, Model model, Authentication authentication) {
+    public String addAssignmentForm(@PathVariable Long teamId, Model model, @CurrentUser UserSnapshot currentUser) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
 
         // 팀장만 접근 가능
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        if (!currentUser.isManagerOf(team.getId())) {
             throw new IllegalStateException("팀장만 과제를 추가할 수 있습니다.");
         }
 
@@ -233,12 +263,12 @@ public class TeamManagerController {
                                  @RequestParam String name,
                                  @RequestParam String description,
                                  @RequestParam String deadline, // "yyyy-MM-dd'T'HH:mm" 형식
-                                 Authentication authentication) {
+                                 @CurrentUser UserSnapshot currentUser) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
 
         // 팀장만 접근 가능
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        if (!currentUser.isManagerOf(team.getId())) {
             throw new IllegalStateException("팀장만 과제를 추가할 수 있습니다.");
         }
 
@@ -250,13 +280,20 @@ public class TeamManagerController {
 
         assignmentRepository.save(assignment);
 
+        // 팀원들의 미제출 과제 수 갱신, 마감 시각에 다시 갱신되도록 등록
+        userTeamStatusService.refreshTeam(teamId);
+        deadlineScheduler.schedule(assignment.getId(), teamId, assignment.getDeadline());
+        // 커밋 후 팀 화면에 실시간 반영
+        eventPublisher.publishEvent(new AssignmentAddedEvent(teamId, assignment.getId(), assignment.getName(),
+                assignment.getDeadline()));
+
         return "redirect:/projects/" + teamId; // 과제 등록 후 프로젝트 페이지로 이동
     }
     @PostMapping("/projects/{teamId}/assignments/{assignmentId}/delete")
     @Transactional
     public String deleteAssignment(@PathVariable Long teamId,
                                    @PathVariable Long assignmentId,
-                                   Authentication authentication) {
+                                   @CurrentUser UserSnapshot currentUser) {
         // 1. 팀 및 과제 존재 여부 확인
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
@@ -265,7 +302,7 @@ public class TeamManagerController {
                 .orElseThrow(() -> new IllegalStateException("과제를 찾을 수 없습니다."));
 
         // 2. 권한 확인 (팀장만 삭제 가능)
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        if (!currentUser.isManagerOf(team.getId())) {
             throw new IllegalStateException("팀장만 과제를 삭제할 수 있습니다.");
         }
 
@@ -278,6 +315,9 @@ public class TeamManagerController {
         // Assignment 엔티티에 Submission에 대한 CascadeType.REMOVE 설정이 있으므로,
         // 과제 삭제 시 해당 과제의 모든 제출물이 자동으로 삭제됩니다.
         assignmentRepository.delete(assignment);
+        userTeamStatusService.refreshTeam(teamId);
+        deadlineScheduler.cancel(assignmentId);
+        eventPublisher.publishEvent(new AssignmentDeletedEvent(teamId, assignmentId));
 
         return "redirect:/projects/" + teamId; // 과제 삭제 후 프로젝트 목록으로 리디렉션
     }
@@ -286,21 +326,25 @@ public class TeamManagerController {
 
     /** 1. 특정 팀의 모든 과제 제출물 목록 조회 (팀 매니저 전용) */
     @GetMapping("/projects/{teamId}/all-submissions")
-    public String listAllSubmissions(@PathVariable Long teamId, Model model, Authentication authentication) {
-
-        // 1. 팀 존재 여부 및 권한 확인
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
+    public String listAllSubmissions(@PathVariable Long teamId, Model model, @CurrentUser UserSnapshot currentUser,
+                                     ServletWebRequest webRequest) {
 
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        // 1. 권한 확인 (캐시된 사용자 정보), 바뀐 것이 없으면 조회 없이 304
+        if (!currentUser.isManagerOf(teamId)) {
             throw new IllegalStateException("팀장만 팀의 모든 제출 목록을 확인할 수 있습니다.");
         }
+        if (contentVersions.checkNotModified(webRequest, contentVersions.teamTag(teamId, currentUser))) {
+            return null;
+        }
+
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
 
         // 2. 해당 팀의 모든 과제 조회
         List<Assignment> assignments = assignmentRepository.findByTeamId(teamId);
 
-        // 3. 모든 과제에 제출된 모든 제출물 조회 (SubmissionRepository의 findAllByAssignmentIn 사용)
-        List<Submission> allSubmissions = submissionRepository.findAllByAssignmentIn(assignments);
+        // 3. 모든 과제에 제출된 모든 제출물 요약 조회 (파일 내용/연관 엔티티는 읽지 않음)
+        List<SubmissionSummary> allSubmissions = submissionRepository.findSummariesByTeamId(teamId);
 
         // 4. 모델에 데이터 추가
         model.addAttribute("team", team);
@@ -320,7 +364,14 @@ public class TeamManagerController {
     public String viewSubmissionsByAssignment(@PathVariable Long teamId,
                                               @PathVariable Long assignmentId, // @RequestParam에서 @PathVariable로 변경
                                               Model model,
-                                              Authentication authentication) {
+                                              @CurrentUser UserSnapshot currentUser,
+                                              ServletWebRequest webRequest) {
+
+        // 팀장이 아니면 ETag 를 받은 적도 없으므로, 권한 확인은 아래에서 그대로
+        if (currentUser.isManagerOf(teamId) && contentVersions.checkNotModified(webRequest,
+                contentVersions.assignmentTag(teamId, assignmentId, currentUser))) {
+            return null;
+        }
 
         // 1. 팀 및 과제 존재 여부 확인
         Team team = teamRepository.findById(teamId)
@@ -330,7 +381,7 @@ public class TeamManagerController {
                 .orElseThrow(() -> new IllegalStateException("과제를 찾을 수 없습니다."));
 
         // 2. 권한 확인 (팀장만 접근 가능)
-        if (!authentication.getName().equals(team.getManagerUsername())) {
+        if (!currentUser.isManagerOf(team.getId())) {
             throw new IllegalStateException("팀장만 제출물 목록을 확인할 수 있습니다.");
         }
 
@@ -339,8 +390,8 @@ public class TeamManagerController {
             throw new IllegalStateException("과제 ID와 팀 ID가 일치하지 않습니다.");
         }
 
-        // 4. 제출물 목록 조회 (SubmissionRepository의 findByAssignmentId 사용)
-        List<Submission> submissions = submissionRepository.findByAssignmentId(assignmentId);
+        // 4. 제출물 요약 목록 조회 (파일 내용/연관 엔티티는 읽지 않음)
+        List<SubmissionSummary> submissions = submissionRepository.findSummariesByAssignmentId(assignmentId);
 
         // 5. 모델에 데이터 추가
         model.addAttribute("team", team);
@@ -350,4 +401,45 @@ public class TeamManagerController {
         // 6. 템플릿 반환
         return "project_submissions"; // templates/project_submissions.html
     }
+
+    // ---------------------------------------------------------------------------------
+
+    /** 3. 특정 과제의 제출물 전체를 ZIP 으로 다운로드 (팀 매니저 전용) */
+    @GetMapping("/projects/{teamId}/assignments/{assignmentId}/submissions.zip")
+    public void downloadAssignmentSubmissions(@PathVariable Long teamId,
+                                              @PathVariable Long assignmentId,
+                                              @CurrentUser UserSnapshot currentUser,
+                                              HttpServletResponse response) throws IOException {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
+        Assignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new IllegalStateException("과제를 찾을 수 없습니다."));
+
+        if (!currentUser.isManagerOf(team.getId())) {
+            throw new IllegalStateException("팀장만 제출물을 내려받을 수 있습니다.");
+        }
+        if (!assignment.getTeam().getId().equals(teamId)) {
+            throw new IllegalStateException("과제 ID와 팀 ID가 일치하지 않습니다.");
+        }
+
+        // 메타데이터만 조회한 뒤 파일은 하나씩 응답으로 스트리밍
+        archiveWriter.write(response, team.getName() + "_" + assignment.getName() + "_제출물.zip",
+                submissionRepository.findArchiveEntriesByAssignmentId(assignmentId), false);
+    }
+
+    /** 4. 팀 전체 과제의 제출물을 과제별 폴더로 묶어 ZIP 으로 다운로드 (팀 매니저 전용) */
+    @GetMapping("/projects/{teamId}/submissions.zip")
+    public void downloadTeamSubmissions(@PathVariable Long teamId,
+                                        @CurrentUser UserSnapshot currentUser,
+                                        HttpServletResponse response) throws IOException {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalStateException("팀을 찾을 수 없습니다."));
+
+        if (!currentUser.isManagerOf(team.getId())) {
+            throw new IllegalStateException("팀장만 제출물을 내려받을 수 있습니다.");
+        }
+
+        archiveWriter.write(response, team.getName() + "_전체_제출물.zip",
+                submissionRepository.findArchiveEntriesByTeamId(teamId), true);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package kr.ac.kopo.kyg.projectkyg.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+/**
+ * 업로드 크기 초과 처리.
+ * 멀티파트 파싱 단계(submission.upload.max-size, WebConfig 참고)에서 거절된 요청을 제출 폼으로 돌려보냅니다.
+ */
+@ControllerAdvice
+public class UploadExceptionHandler {
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public String handleMaxUploadSize(HttpServletRequest request, RedirectAttributes redirectAttributes) {
+        redirectAttributes.addFlashAttribute("error", "파일 크기가 허용된 최대 크기를 초과했습니다.");
+        // 제출 폼과 처리 URL 이 같으므로(GET/POST) 같은 경로로 리다이렉트
+        return "redirect:" + request.getServletPath();
+    }
+}
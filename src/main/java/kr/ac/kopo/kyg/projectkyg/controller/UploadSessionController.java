@@ -0,0 +1,115 @@
+package kr.ac.kopo.kyg.projectkyg.controller;
+
+import kr.ac.kopo.kyg.projectkyg.domain.UploadSession;
+import kr.ac.kopo.kyg.projectkyg.service.ChunkedUploadService;
+import kr.ac.kopo.kyg.projectkyg.service.SubmissionService;
+import kr.ac.kopo.kyg.projectkyg.storage.StorageLimitExceededException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 분할(청크) 업로드 API.
+ * <pre>
+ * POST   /assignments/{assignmentId}/uploads                          세션 생성 (fileName, totalSize, contentType)
+ * GET    /assignments/{assignmentId}/uploads/{uploadId}               수신된 청크 조회 (이어 올리기)
+ * PUT    /assignments/{assignmentId}/uploads/{uploadId}/chunks/{index} 청크 업로드 (본문 = 청크 바이트)
+ * POST   /assignments/{assignmentId}/uploads/{uploadId}/commit        제출 완료
+ * DELETE /assignments/{assignmentId}/uploads/{uploadId}               업로드 취소
+ * </pre>
+ */
+@RestController
+@RequestMapping("/assignments/{assignmentId}/uploads")
+public class UploadSessionController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    public UploadSessionController(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+
+    /** 업로드 세션 상태 응답 */
+    public record UploadStatus(String uploadId, long totalSize, int chunkSize, int chunkCount,
+                               SortedSet<Integer> receivedChunks) {
+    }
+
+    /** 세션 생성 */
+    @PostMapping
+    public ResponseEntity<UploadStatus> createSession(@PathVariable Long assignmentId,
+                                                      @RequestParam String fileName,
+                                                      @RequestParam long totalSize,
+                                                      @RequestParam(required = false) String contentType,
+                                                      Authentication authentication) {
+        UploadSession session = chunkedUploadService.createSession(
+                assignmentId, authentication.getName(), fileName, contentType, totalSize);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new UploadStatus(session.getId(), session.getTotalSize(), session.getChunkSize(),
+                        session.getChunkCount(), new TreeSet<>()));
+    }
+
+    /** 세션 상태 (이미 받은 청크 번호) */
+    @GetMapping("/{uploadId}")
+    public UploadStatus status(@PathVariable Long assignmentId,
+                               @PathVariable String uploadId,
+                               Authentication authentication) throws IOException {
+        UploadSession session = chunkedUploadService.getSession(assignmentId, uploadId, authentication.getName());
+        SortedSet<Integer> received = chunkedUploadService.receivedChunks(assignmentId, uploadId, authentication.getName());
+        return new UploadStatus(session.getId(), session.getTotalSize(), session.getChunkSize(),
+                session.getChunkCount(), received);
+    }
+
+    /** 청크 업로드 (멱등: 같은 번호를 다시 보내면 덮어씀) */
+    @PutMapping("/{uploadId}/chunks/{index}")
+    public ResponseEntity<Void> uploadChunk(@PathVariable Long assignmentId,
+                                            @PathVariable String uploadId,
+                                            @PathVariable int index,
+                                            InputStream body,
+                                            Authentication authentication) throws IOException {
+        chunkedUploadService.receiveChunk(assignmentId, uploadId, authentication.getName(), index, body);
+        return ResponseEntity.noContent().build();
+    }
+
+    /** 제출 완료 */
+    @PostMapping("/{uploadId}/commit")
+    public Map<String, Object> commit(@PathVariable Long assignmentId,
+                                      @PathVariable String uploadId,
+                                      Authentication authentication) throws IOException {
+        SubmissionService.SubmitResult result = chunkedUploadService.commit(assignmentId, uploadId, authentication.getName());
+        return Map.of(
+                "submissionId", result.submission().getId(),
+                "fileName", result.submission().getFileName(),
+                "late", Boolean.TRUE.equals(result.submission().getLate()),
+                "resubmitted", result.resubmitted());
+    }
+
+    /** 업로드 취소 */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(@PathVariable Long assignmentId,
+                                      @PathVariable String uploadId,
+                                      Authentication authentication) throws IOException {
+        chunkedUploadService.abort(assignmentId, uploadId, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(ChunkedUploadService.UploadSessionNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(StorageLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleTooLarge(StorageLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
+    public ResponseEntity<Map<String, String>> handleBadRequest(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+    }
+}
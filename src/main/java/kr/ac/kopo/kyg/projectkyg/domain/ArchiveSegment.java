@@ -0,0 +1,39 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 계층의 세그먼트 파일 한 개 (여러 제출 파일을 이어 붙인 파일).
+ * 세그먼트 작성/삭제는 ColdStorageTieringJob 이 수행합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "archive_segments", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_archive_segments_file_name", columnNames = "fileName")
+})
+public class ArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 보관 디렉터리 안의 파일 이름
+    @Column(nullable = false, length = 100)
+    private String fileName;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private int entryCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
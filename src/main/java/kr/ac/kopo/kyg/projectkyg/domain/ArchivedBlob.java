@@ -0,0 +1,45 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 계층으로 옮겨진 파일의 위치 색인 (세그먼트 파일 안의 오프셋/길이).
+ * 파일 자체가 삭제되면(참조 0) StoredBlobRegistry 정리 작업에서 함께 지워집니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "archived_blobs", indexes = {
+        @Index(name = "idx_archived_blobs_segment", columnList = "segmentId")
+})
+public class ArchivedBlob {
+
+    // stored_blobs.storage_key
+    @Id
+    @Column(length = 64)
+    private String storageKey;
+
+    // archive_segments.id (FK: fk_archived_blobs_segment)
+    @Column(nullable = false)
+    private Long segmentId;
+
+    @Column(nullable = false)
+    private long entryOffset;
+
+    // 세그먼트 안에 쓰인 바이트 수 (압축 저장된 파일은 압축 후 크기)
+    @Column(nullable = false)
+    private long entryLength;
+
+    // 저장 인코딩 ("gzip", 원본 그대로면 null)
+    @Column(length = 20)
+    private String contentEncoding;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
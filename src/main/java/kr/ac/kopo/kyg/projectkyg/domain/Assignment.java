@@ -6,13 +6,17 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "assignments")
+@Table(name = "assignments", indexes = {
+        // 팀별 과제 목록 / 마감 전 미제출 과제 확인
+        @Index(name = "idx_assignments_team_deadline", columnList = "team_id, deadline")
+})
 public class Assignment {
 
     @Id
@@ -41,4 +45,15 @@ public class Assignment {
     // 제출 여부 표시용 (DB에 저장되지 않음)
     @Transient
     private boolean submitted = false;
+
+    /** 프로젝트 목록 정렬: 마감 전 과제를 먼저, 각 그룹 안에서는 마감일 순 */
+    public static Comparator<Assignment> upcomingFirst(LocalDateTime now) {
+        return (a1, a2) -> {
+            boolean a1Past = a1.getDeadline().isBefore(now);
+            boolean a2Past = a2.getDeadline().isBefore(now);
+            if (a1Past && !a2Past) return 1;
+            if (!a1Past && a2Past) return -1;
+            return a1.getDeadline().compareTo(a2.getDeadline());
+        };
+    }
 }
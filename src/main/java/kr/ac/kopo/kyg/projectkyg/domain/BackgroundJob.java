@@ -0,0 +1,79 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 요청으로 큐에 들어간 백그라운드 작업.
+ * 상태 변경은 여러 워커(인스턴스)가 동시에 건드릴 수 있어 조건부 UPDATE 로만 수행합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "background_jobs", indexes = {
+        @Index(name = "idx_background_jobs_status_run_after", columnList = "status, runAfter")
+})
+public class BackgroundJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobType type;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+
+    // 작업 대상 (예: 삭제할 사용자 ID), 대상이 없는 작업은 null
+    private Long targetId;
+
+    // 요청한 관리자 username
+    @Column(nullable = false, length = 50)
+    private String requestedBy;
+
+    // 진행률 (전체 건수를 모르면 progressTotal 은 null)
+    @Column(nullable = false)
+    private long progressDone;
+
+    private Long progressTotal;
+
+    // 결과 요약 또는 마지막 오류 메시지
+    @Column(length = 500)
+    private String message;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private int maxAttempts;
+
+    // 실행 중인 작업의 취소 요청 (작업이 진행률을 보고할 때 확인)
+    @Column(nullable = false)
+    private boolean cancelRequested;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 이 시각 이후에 실행 (재시도 대기)
+    @Column(nullable = false)
+    private LocalDateTime runAfter;
+
+    private LocalDateTime startedAt;
+
+    // 작업을 가져간 실행의 토큰 (heartbeat/진행률/종료는 이 토큰이 일치할 때만 반영)
+    @Column(length = 32)
+    private String claimToken;
+
+    // 실행 중인 워커가 주기적으로 갱신 (오래 갱신되지 않으면 워커가 죽은 것으로 보고 다시 큐에 넣음)
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,26 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 목록 화면 ETag 에 쓰는 범위별 버전.
+ * 증가/조회는 ContentVersions 가 JDBC 로 수행합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "content_versions")
+public class ContentVersion {
+
+    // global, team-list, team:{id}, assignment:{id}
+    @Id
+    @Column(length = 40)
+    private String scope;
+
+    @Column(nullable = false)
+    private long version;
+}
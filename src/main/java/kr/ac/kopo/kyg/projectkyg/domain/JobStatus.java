@@ -0,0 +1,15 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+/** 백그라운드 작업 상태 (QUEUED → RUNNING → SUCCEEDED / FAILED / CANCELLED) */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    /** 아직 끝나지 않은 상태 */
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+/** 백그라운드 작업 종류 */
+public enum JobType {
+    ORPHAN_TEAM_CLEANUP("고아 팀 정리"),
+    USER_DELETION("사용자 삭제"),
+    SUBMISSION_BLOB_MIGRATION("제출 파일 이관");
+
+    private final String label;
+
+    JobType(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
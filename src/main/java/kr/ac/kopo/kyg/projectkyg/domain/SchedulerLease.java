@@ -0,0 +1,32 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 인스턴스에서만 실행해야 하는 정기 작업의 실행권.
+ * 획득/연장/반납은 SchedulerLeases 가 조건부 UPDATE 로 수행합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "scheduler_leases")
+public class SchedulerLease {
+
+    // 작업 이름
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 실행권을 가진 실행의 토큰 (반납 후 null)
+    @Column(length = 32)
+    private String owner;
+
+    // 이 시각이 지나면 다른 인스턴스가 가져갈 수 있음 (실행 중 인스턴스가 죽은 경우)
+    private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,46 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소의 파일 한 개 (내용이 같은 제출물은 같은 파일을 공유).
+ * 참조 수 변경은 동시성 때문에 StoredBlobRegistry 의 원자적 UPDATE 로만 수행합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "stored_blobs", indexes = {
+        @Index(name = "idx_stored_blobs_ref_count_released", columnList = "refCount, releasedAt")
+})
+public class StoredBlob {
+
+    // 내용의 SHA-256 (이전 제출물은 UUID 키)
+    @Id
+    @Column(length = 64)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private long size;
+
+    // 저장소에 실제로 쓰인 크기와 인코딩 ("gzip", 원본 그대로면 null)
+    private Long storedSize;
+
+    @Column(length = 20)
+    private String contentEncoding;
+
+    // 이 파일을 가리키는 제출물 수
+    @Column(nullable = false)
+    private int refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 참조가 줄어든 시각 (참조 0 인 파일은 이 시각부터 유예 시간 뒤 삭제)
+    private LocalDateTime releasedAt;
+}
@@ -1,15 +1,24 @@
 package kr.ac.kopo.kyg.projectkyg.domain;
 
 import jakarta.persistence.*;
+import kr.ac.kopo.kyg.projectkyg.storage.SubmissionBlobReleaseListener;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Entity
+// 삭제 시 공유 파일 참조 감소
+@EntityListeners(SubmissionBlobReleaseListener.class)
 @Getter
 @Setter
-@Table(name = "Submissions")
+@Table(name = "Submissions", uniqueConstraints = {
+        // (과제, 사용자)당 제출은 한 건 (V3__hot_path_indexes.sql)
+        @UniqueConstraint(name = "uk_submissions_assignment_user", columnNames = {"assignment_id", "user_id"})
+}, indexes = {
+        // 파일을 참조하는 제출물 찾기 (V7__cold_archive.sql)
+        @Index(name = "idx_submissions_storage_key", columnList = "storageKey")
+})
 public class Submission {
 
     @Id
@@ -26,30 +35,41 @@ public class Submission {
 
     private LocalDateTime submittedAt;
 
-    // 🔑 BLOB 방식 유지: 파일 데이터를 DB에 직접 저장
-    @Lob
-    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
-    private byte[] fileData;
+    // 지연 제출 여부 (업로드 시작 시각 기준으로 판단, 이전 데이터는 null)
+    private Boolean late;
 
-    // 사용자가 업로드한 원래 파일 이름
-    private String fileName;
+    // 🔑 파일 내용은 SubmissionStorage(기본: 파일 시스템)에 저장하고, 행에는 메타데이터만 보관
+    // 내용이 같은 제출물은 같은 키(SHA-256)를 공유하며 참조 수는 stored_blobs 에서 관리
+    // 기존 file_data(MEDIUMBLOB) 컬럼은 SubmissionBlobMigrationJob 이 이관 후 비웁니다.
+    @Column(length = 64)
+    private String storageKey;
 
-    // 💡 새로운 고유 이름 필드: MainController의 storedFilename을 저장하여 중복 이름 방지 및 관리 용이
-    // 이 필드가 setStoredFileName 대신 사용되어야 합니다.
-    private String storedUniqueName;
+    // 원본 파일 크기 (byte)
+    private Long fileSize;
 
+    // 저장소에 실제로 쓰인 크기 (압축 저장 시 압축 후 크기)
+    private Long storedSize;
 
-    // --- Getters and Setters (Lombok 사용 중이므로 수동 메서드는 제거하거나, 아래 수정을 따릅니다) ---
-    // Lombok이 이미 Getter/Setter를 생성하지만, 누락된 필드만 명시적으로 추가하여 오류를 해결합니다.
+    // 저장 인코딩 ("gzip", 원본 그대로면 null)
+    @Column(length = 20)
+    private String contentEncoding;
 
-    // 기존 Getter/Setter는 Lombok이 처리하거나 수동으로 이미 구현되어 있다고 가정합니다.
+    // 원본 파일의 SHA-256 (hex)
+    @Column(length = 64)
+    private String checksum;
 
-    // 💡 오류 해결: setStoredFileName 대신 사용할 Getter/Setter 추가
-    public String getStoredUniqueName() {
-        return storedUniqueName;
-    }
+    // 업로드 시 전달된 Content-Type
+    @Column(length = 100)
+    private String contentType;
+
+    // 사용자가 업로드한 원래 파일 이름
+    private String fileName;
 
-    public void setStoredUniqueName(String storedUniqueName) {
-        this.storedUniqueName = storedUniqueName;
+    /** 압축률 (저장 크기 / 원본 크기, 알 수 없으면 null) */
+    public Double getCompressionRatio() {
+        if (fileSize == null || storedSize == null || fileSize == 0) {
+            return null;
+        }
+        return (double) storedSize / fileSize;
     }
-}
\ No newline at end of file
+}
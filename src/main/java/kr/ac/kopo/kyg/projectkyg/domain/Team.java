@@ -12,7 +12,13 @@ import java.util.Set;
 @Entity
 @Getter
 @Setter
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+        // 관리자 목록 이름 순 키셋 페이지네이션용
+        @Index(name = "idx_teams_name_id", columnList = "name, id"),
+        // 팀장 기준 조회
+        @Index(name = "idx_teams_manager_username", columnList = "managerUsername"),
+        @Index(name = "idx_teams_manager_name", columnList = "managerName")
+})
 public class Team {
 
     @Id
@@ -0,0 +1,68 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할(청크) 업로드 세션.
+ * 세션을 만든 뒤 번호가 매겨진 청크를 올리고, 모두 모이면 commit 하여 Submission 으로 저장합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "upload_sessions", indexes = {
+        // 방치된 세션 정리
+        @Index(name = "idx_upload_sessions_last_activity", columnList = "lastActivityAt")
+})
+public class UploadSession {
+
+    @Id
+    @Column(length = 32)
+    private String id;
+
+    // 과제/사용자가 삭제되어도 세션은 만료 정리 작업이 지우므로 FK 없이 ID 만 보관
+    @Column(nullable = false)
+    private Long assignmentId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    // 사용자가 업로드한 원래 파일 이름
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(length = 100)
+    private String contentType;
+
+    // 전체 파일 크기 (byte)
+    @Column(nullable = false)
+    private long totalSize;
+
+    // 마지막 청크를 제외한 청크 크기 (byte)
+    @Column(nullable = false)
+    private int chunkSize;
+
+    @Column(nullable = false)
+    private int chunkCount;
+
+    // 업로드 시작 시각 (지연 제출 판단 기준)
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    // 마지막 청크 수신 시각 (만료 정리 기준)
+    @Column(nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    /** index 번째 청크의 예상 크기 */
+    public long expectedChunkSize(int index) {
+        if (index < chunkCount - 1) {
+            return chunkSize;
+        }
+        return totalSize - (long) chunkSize * (chunkCount - 1);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -12,7 +13,10 @@ import java.util.Set;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 관리자 목록 이름 순 키셋 페이지네이션용
+        @Index(name = "idx_users_name_id", columnList = "name, id")
+})
 public class User {
 
     @Id
@@ -32,6 +36,11 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    // 사용자 캐시 검증용 버전 (UserCache.evict 가 SQL 로 올리므로 엔티티에서는 쓰지 않음)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long cacheVersion;
+
     @ManyToMany
     @JoinTable(
             name = "user_team",
@@ -0,0 +1,50 @@
+package kr.ac.kopo.kyg.projectkyg.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * (사용자, 팀)별로 미리 계산해 둔 "마감 전 미제출 과제 수".
+ * 메인 페이지는 매번 과제/제출물을 비교하지 않고 이 행만 읽습니다.
+ * 값은 UserTeamStatusService 가 set 기반 INSERT ... SELECT 로만 갱신합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@IdClass(UserTeamStatus.Key.class)
+@Table(name = "user_team_status", indexes = {
+        // 팀 단위 재계산
+        @Index(name = "idx_user_team_status_team", columnList = "teamId")
+})
+public class UserTeamStatus {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private Long teamId;
+
+    // 마감 전인데 아직 제출하지 않은 과제 수
+    @Column(nullable = false)
+    private int openUnsubmitted;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long teamId;
+    }
+}
@@ -0,0 +1,13 @@
+package kr.ac.kopo.kyg.projectkyg.event;
+
+import java.time.LocalDateTime;
+
+/** 팀에 과제가 등록되었을 때 */
+public record AssignmentAddedEvent(Long teamId, Long assignmentId, String name, LocalDateTime deadline)
+        implements TeamEvent {
+
+    @Override
+    public String eventName() {
+        return "assignment-added";
+    }
+}
@@ -0,0 +1,10 @@
+package kr.ac.kopo.kyg.projectkyg.event;
+
+/** 팀의 과제가 삭제되었을 때 */
+public record AssignmentDeletedEvent(Long teamId, Long assignmentId) implements TeamEvent {
+
+    @Override
+    public String eventName() {
+        return "assignment-deleted";
+    }
+}
@@ -0,0 +1,10 @@
+package kr.ac.kopo.kyg.projectkyg.event;
+
+/** 과제 마감 시각이 지났을 때 ({@code AssignmentDeadlineScheduler}가 발행) */
+public record DeadlinePassedEvent(Long teamId, Long assignmentId) implements TeamEvent {
+
+    @Override
+    public String eventName() {
+        return "deadline-passed";
+    }
+}
@@ -0,0 +1,238 @@
+package kr.ac.kopo.kyg.projectkyg.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.ac.kopo.kyg.projectkyg.service.UserCache;
+import kr.ac.kopo.kyg.projectkyg.service.UserSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 팀 이벤트를 SSE 구독자에게 전달하는 프로세스 내 이벤트 허브.
+ * <p>
+ * 제출/과제 변경/마감 이벤트를 커밋 후에 받아 해당 팀을 구독 중인 연결의 버퍼에 넣고, 전송 스레드가 비웁니다.
+ * - 연결마다 버퍼 크기가 정해져 있어, 받지 못하고 쌓이는 느린 연결은 끊습니다. (브라우저가 다시 연결)
+ * - 주기적으로 heartbeat 주석을 보내 끊어진 연결을 찾아 정리합니다.
+ * - 연결은 서블릿 비동기 요청이므로 요청 스레드를 잡고 있지 않습니다.
+ * - 전달할 때마다 {@link UserCache}로 현재 가입/팀장 여부를 다시 확인하여, 구독 후 탈퇴/강퇴/삭제된 사용자의 연결은 끊습니다.
+ * 이벤트는 이 인스턴스의 구독자에게만 전달됩니다.
+ */
+@Component
+public class LiveEventHub {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveEventHub.class);
+
+    // 끊긴 뒤 브라우저(EventSource)가 다시 연결하기까지 기다리는 시간
+    private static final long RECONNECT_MILLIS = 5_000;
+
+    // 팀 ID → 구독 중인 연결
+    private final Map<Long, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final UserCache userCache;
+    private final ExecutorService sender;
+    private final Counter droppedConnections;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final Duration timeout;
+
+    public LiveEventHub(UserCache userCache,
+                        MeterRegistry registry,
+                        @Value("${live.sender-threads:2}") int senderThreads,
+                        @Value("${live.buffer-size:32}") int bufferSize,
+                        @Value("${live.max-connections:2000}") int maxConnections,
+                        @Value("${live.timeout:PT30M}") Duration timeout) {
+        this.userCache = userCache;
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("sse-sender-"));
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.timeout = timeout;
+        Gauge.builder("live.connections", connectionCount, AtomicInteger::get).register(registry);
+        this.droppedConnections = Counter.builder("live.connections.dropped").register(registry);
+    }
+
+    /** 하나의 SSE 연결 */
+    private static final class Connection {
+
+        final Long userId;
+        final String username;
+        final Set<Long> teamIds;
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        final AtomicBoolean sending = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Connection(Long userId, String username, Set<Long> teamIds, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.username = username;
+            this.teamIds = teamIds;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    /**
+     * 팀 이벤트 구독을 시작합니다.
+     *
+     * @param teamIds 구독할 팀 ID (가입했거나 팀장으로 있는 팀)
+     * @return 동시 연결 수 제한에 걸리면 empty
+     */
+    public Optional<SseEmitter> subscribe(UserSnapshot user, Set<Long> teamIds) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Connection connection = new Connection(user.id(), user.username(), Set.copyOf(teamIds), emitter, bufferSize);
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(e -> unregister(connection));
+        connections.add(connection);
+        for (Long teamId : connection.teamIds) {
+            // 빈 목록 제거(unregister)와 겹치지 않도록 키 단위로 원자적으로 추가
+            subscribers.compute(teamId, (id, teamConnections) -> {
+                Set<Connection> result = teamConnections != null ? teamConnections : ConcurrentHashMap.newKeySet();
+                result.add(connection);
+                return result;
+            });
+        }
+
+        // 응답 헤더를 바로 내보내고 재연결 간격을 알려줌
+        offer(connection, SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        return Optional.of(emitter);
+    }
+
+    /** 커밋된 변경만 전달 (트랜잭션 밖에서 발행하면 바로 전달) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TeamEvent event) {
+        Set<Connection> teamConnections = subscribers.get(event.teamId());
+        if (teamConnections == null) {
+            return;
+        }
+        // 팀 구독자의 현재 정보를 한 번에 확인
+        Map<String, UserSnapshot> users = userCache.findAll(
+                teamConnections.stream().map(connection -> connection.username).collect(Collectors.toSet()));
+        for (Connection connection : teamConnections) {
+            // 구독 후 탈퇴/강퇴/계정 변경: 연결을 끊으면 브라우저가 현재 가입한 팀으로 다시 구독
+            Optional<UserSnapshot> current = Optional.ofNullable(users.get(connection.username))
+                    .filter(user -> user.id().equals(connection.userId))
+                    .filter(user -> user.isMemberOf(event.teamId()) || user.isManagerOf(event.teamId()));
+            if (current.isEmpty()) {
+                close(connection);
+                continue;
+            }
+            if (event.visibleTo(connection.userId, current.get().isManagerOf(event.teamId()))) {
+                offer(connection, SseEmitter.event().name(event.eventName()).data(event));
+            }
+        }
+    }
+
+    /** 모든 연결에 heartbeat 를 보냅니다. 전송에 실패한 연결은 정리됩니다. */
+    @Scheduled(fixedDelayString = "${live.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Connection connection : connections) {
+            offer(connection, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List.copyOf(connections).forEach(this::close);
+        sender.shutdownNow();
+    }
+
+    private void offer(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed.get()) {
+            return;
+        }
+        if (!connection.buffer.offer(event)) {
+            // 버퍼가 가득 찬 느린 연결: 더 쌓지 않고 끊음
+            droppedConnections.increment();
+            close(connection);
+            return;
+        }
+        drain(connection);
+    }
+
+    /** 연결마다 한 번에 하나의 전송 작업만 버퍼를 비웁니다. */
+    private void drain(Connection connection) {
+        if (!connection.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    SseEmitter.SseEventBuilder event;
+                    while (!connection.closed.get() && (event = connection.buffer.poll()) != null) {
+                        connection.emitter.send(event);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊었거나 이미 완료된 연결
+                    log.debug("SSE 전송 실패: userId={}", connection.userId, e);
+                    close(connection);
+                } finally {
+                    connection.sending.set(false);
+                }
+                // 전송을 마치는 사이에 들어온 이벤트
+                if (!connection.buffer.isEmpty()) {
+                    drain(connection);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            connection.sending.set(false);
+        }
+    }
+
+    private void close(Connection connection) {
+        if (unregister(connection)) {
+            try {
+                connection.emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 응답
+            }
+        }
+    }
+
+    /** @return 이번 호출에서 정리했으면 true */
+    private boolean unregister(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        connection.buffer.clear();
+        for (Long teamId : connection.teamIds) {
+            subscribers.computeIfPresent(teamId, (id, teamConnections) -> {
+                teamConnections.remove(connection);
+                return teamConnections.isEmpty() ? null : teamConnections;
+            });
+        }
+        connections.remove(connection);
+        connectionCount.decrementAndGet();
+        return true;
+    }
+}
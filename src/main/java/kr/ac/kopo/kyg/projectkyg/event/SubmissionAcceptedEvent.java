@@ -0,0 +1,19 @@
+package kr.ac.kopo.kyg.projectkyg.event;
+
+import java.time.LocalDateTime;
+
+/** 제출이 저장되었을 때 (제출한 본인과 팀장에게만 전달) */
+public record SubmissionAcceptedEvent(Long teamId, Long assignmentId, Long userId, String fileName,
+                                      boolean late, boolean resubmitted, LocalDateTime submittedAt)
+        implements TeamEvent {
+
+    @Override
+    public String eventName() {
+        return "submission-accepted";
+    }
+
+    @Override
+    public boolean visibleTo(Long userId, boolean manager) {
+        return manager || this.userId.equals(userId);
+    }
+}
@@ -0,0 +1,20 @@
+package kr.ac.kopo.kyg.projectkyg.event;
+
+/**
+ * 팀 화면에 실시간으로 알리는 이벤트. {@link LiveEventHub}가 SSE 로 전달합니다.
+ */
+public sealed interface TeamEvent permits SubmissionAcceptedEvent, AssignmentAddedEvent,
+        AssignmentDeletedEvent, DeadlinePassedEvent {
+
+    Long teamId();
+
+    Long assignmentId();
+
+    /** SSE 이벤트 이름 (클라이언트의 addEventListener 이름) */
+    String eventName();
+
+    /** 이 이벤트를 받을 수 있는 사용자인지 (기본: 팀 구독자 전체) */
+    default boolean visibleTo(Long userId, boolean manager) {
+        return true;
+    }
+}
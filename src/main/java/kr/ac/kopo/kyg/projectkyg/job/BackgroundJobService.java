@@ -0,0 +1,82 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobStatus;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import kr.ac.kopo.kyg.projectkyg.repository.BackgroundJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * 백그라운드 작업 요청/취소/재시도.
+ * 요청은 작업 행만 저장하고 바로 반환하며, 실제 실행은 {@link BackgroundJobWorker}가 맡습니다.
+ */
+@Service
+public class BackgroundJobService {
+
+    private final BackgroundJobRepository jobRepository;
+    private final BackgroundJobWorker worker;
+    private final int maxAttempts;
+
+    public BackgroundJobService(BackgroundJobRepository jobRepository,
+                                BackgroundJobWorker worker,
+                                @Value("${jobs.max-attempts:3}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.worker = worker;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 작업을 큐에 넣습니다. 같은 종류/대상의 작업이 아직 끝나지 않았다면 그 작업을 반환합니다.
+     *
+     * @param targetId 작업 대상 ID (없으면 null)
+     */
+    public BackgroundJob enqueue(JobType type, Long targetId, String requestedBy) {
+        BackgroundJob active = jobRepository
+                .findFirstByTypeAndTargetIdAndStatusIn(type, targetId, EnumSet.of(JobStatus.QUEUED, JobStatus.RUNNING))
+                .orElse(null);
+        if (active != null) {
+            return active;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BackgroundJob job = new BackgroundJob();
+        job.setType(type);
+        job.setStatus(JobStatus.QUEUED);
+        job.setTargetId(targetId);
+        job.setRequestedBy(requestedBy);
+        job.setMaxAttempts(maxAttempts);
+        job.setCreatedAt(now);
+        job.setRunAfter(now);
+        BackgroundJob saved = jobRepository.save(job);
+
+        // 다음 폴링을 기다리지 않고 바로 실행 시도
+        worker.dispatch();
+        return saved;
+    }
+
+    /** 최근 작업 목록 */
+    public List<BackgroundJob> recentJobs() {
+        return jobRepository.findTop50ByOrderByIdDesc();
+    }
+
+    /** 대기 중이면 바로 취소하고, 실행 중이면 취소를 요청합니다. (작업이 다음 진행률 보고 때 멈춤) */
+    public void cancel(Long jobId) {
+        if (jobRepository.cancelQueued(jobId, "실행 전에 취소되었습니다.", LocalDateTime.now()) == 0
+                && jobRepository.requestCancel(jobId) == 0) {
+            throw new IllegalStateException("이미 끝난 작업은 취소할 수 없습니다.");
+        }
+    }
+
+    /** 실패/취소된 작업을 처음부터 다시 실행합니다. */
+    public void retry(Long jobId) {
+        if (jobRepository.retry(jobId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("실패하거나 취소된 작업만 다시 실행할 수 있습니다.");
+        }
+        worker.dispatch();
+    }
+}
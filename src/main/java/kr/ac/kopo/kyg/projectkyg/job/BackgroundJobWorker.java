@@ -0,0 +1,160 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import jakarta.annotation.PreDestroy;
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobStatus;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import kr.ac.kopo.kyg.projectkyg.repository.BackgroundJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 큐에 들어간 작업을 고정 크기 스레드 풀에서 실행합니다.
+ * <p>
+ * - 빈 슬롯이 있을 때만 작업을 조건부 UPDATE 로 가져가므로 여러 인스턴스가 같은 테이블을 나눠 처리할 수 있습니다.
+ * - 실행 중인 작업은 주기적으로 heartbeat 를 갱신하고, heartbeat 가 끊긴 작업(종료된 인스턴스)은 다시 큐에 넣습니다.
+ *   끊긴 실행도 시도 횟수에 들어가며, 가져갈 때 받은 토큰으로만 갱신/종료하므로 늦게 끝난 이전 실행은 반영되지 않습니다.
+ * - 실패한 작업은 maxAttempts 까지 retry-backoff × 시도 횟수만큼 기다렸다가 다시 실행합니다.
+ */
+@Component
+public class BackgroundJobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundJobWorker.class);
+
+    private static final int MESSAGE_MAX_LENGTH = 500;
+
+    private final BackgroundJobRepository jobRepository;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final ExecutorService executor;
+    private final Semaphore slots;
+    // 실행 중인 작업 ID → 가져갈 때 쓴 토큰
+    private final Map<Long, String> runningJobs = new ConcurrentHashMap<>();
+    private final Duration retryBackoff;
+    private final Duration staleAfter;
+
+    public BackgroundJobWorker(BackgroundJobRepository jobRepository,
+                               List<JobHandler> handlers,
+                               @Value("${jobs.worker-threads:2}") int workerThreads,
+                               @Value("${jobs.retry-backoff:PT30S}") Duration retryBackoff,
+                               @Value("${jobs.stale-after:PT5M}") Duration staleAfter) {
+        this.jobRepository = jobRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.executor = Executors.newFixedThreadPool(workerThreads, new CustomizableThreadFactory("job-worker-"));
+        this.slots = new Semaphore(workerThreads);
+        this.retryBackoff = retryBackoff;
+        this.staleAfter = staleAfter;
+    }
+
+    /** 주기적으로 heartbeat 갱신, 멈춘 작업 복구, 대기 작업 실행 */
+    @Scheduled(fixedDelayString = "${jobs.poll-interval:PT2S}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!runningJobs.isEmpty()) {
+            jobRepository.heartbeat(List.copyOf(runningJobs.values()), now);
+        }
+        LocalDateTime threshold = now.minus(staleAfter);
+        int recovered = jobRepository.requeueStale(threshold, now);
+        if (recovered > 0) {
+            log.warn("heartbeat 가 끊긴 작업 {}건을 다시 큐에 넣었습니다.", recovered);
+        }
+        int failed = jobRepository.failStale(threshold, now);
+        if (failed > 0) {
+            log.error("heartbeat 가 끊긴 작업 {}건이 재시도 횟수를 모두 사용해 실패 처리되었습니다.", failed);
+        }
+        dispatch();
+    }
+
+    /** 빈 슬롯만큼 실행 가능한 작업을 가져가 실행합니다. */
+    public void dispatch() {
+        while (slots.tryAcquire()) {
+            Optional<Long> next = jobRepository.findNextRunnableId(LocalDateTime.now());
+            if (next.isEmpty()) {
+                slots.release();
+                return;
+            }
+            Long jobId = next.get();
+            String token = UUID.randomUUID().toString().replace("-", "");
+            if (jobRepository.claim(jobId, token, LocalDateTime.now()) == 0) {
+                // 다른 워커가 먼저 가져감
+                slots.release();
+                continue;
+            }
+            runningJobs.put(jobId, token);
+            try {
+                executor.execute(() -> {
+                    try {
+                        execute(jobId, token);
+                    } finally {
+                        runningJobs.remove(jobId);
+                        slots.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 종료 중이라 실행할 수 없음: heartbeat 가 끊기면 다시 큐에 들어감
+                runningJobs.remove(jobId);
+                slots.release();
+                throw e;
+            }
+        }
+    }
+
+    private void execute(Long jobId, String token) {
+        BackgroundJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        JobHandler handler = handlers.get(job.getType());
+        if (handler == null) {
+            jobRepository.finish(jobId, token, JobStatus.FAILED, "처리기가 없는 작업입니다: " + job.getType(), LocalDateTime.now());
+            return;
+        }
+
+        try {
+            String result = handler.run(job, new JobContext(jobId, token, jobRepository));
+            jobRepository.finish(jobId, token, JobStatus.SUCCEEDED, truncate(result), LocalDateTime.now());
+            log.info("작업 완료: #{} {} - {}", jobId, job.getType(), result);
+        } catch (JobCancelledException e) {
+            jobRepository.finish(jobId, token, JobStatus.CANCELLED, e.getMessage(), LocalDateTime.now());
+            log.info("작업 취소: #{} {}", jobId, job.getType());
+        } catch (Exception e) {
+            String message = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            if (job.getAttempts() < job.getMaxAttempts()) {
+                LocalDateTime runAfter = LocalDateTime.now().plus(retryBackoff.multipliedBy(job.getAttempts()));
+                jobRepository.requeue(jobId, token, message, runAfter);
+                log.warn("작업 실패, {} 이후 다시 실행: #{} {} ({}/{})",
+                        runAfter, jobId, job.getType(), job.getAttempts(), job.getMaxAttempts(), e);
+            } else {
+                jobRepository.finish(jobId, token, JobStatus.FAILED, message, LocalDateTime.now());
+                log.error("작업 실패: #{} {}", jobId, job.getType(), e);
+            }
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MESSAGE_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MESSAGE_MAX_LENGTH);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,12 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+/** 관리자가 실행 중인 작업을 취소했거나 작업을 더 이상 가지고 있지 않을 때 {@link JobContext}가 던집니다. */
+public class JobCancelledException extends RuntimeException {
+    public JobCancelledException() {
+        super("작업이 취소되었습니다.");
+    }
+
+    public JobCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,39 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import kr.ac.kopo.kyg.projectkyg.repository.BackgroundJobRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 중인 작업이 진행률을 보고하고 취소 요청을 확인하는 통로.
+ * 진행률 보고가 곧 취소 확인 지점이므로, 작업은 안전하게 멈출 수 있는 곳(배치 커밋 직후 등)에서 호출합니다.
+ */
+public class JobContext {
+
+    private final Long jobId;
+    private final String token;
+    private final BackgroundJobRepository jobRepository;
+
+    JobContext(Long jobId, String token, BackgroundJobRepository jobRepository) {
+        this.jobId = jobId;
+        this.token = token;
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * @param total 전체 건수 (모르면 null)
+     * @throws JobCancelledException 취소 요청이 있거나, heartbeat 가 끊겨 작업이 다른 실행으로 넘어간 경우
+     */
+    public void progress(long done, Long total) {
+        if (jobRepository.updateProgress(jobId, token, done, total, LocalDateTime.now()) == 0) {
+            throw new JobCancelledException("작업이 다른 실행으로 넘어가 중단합니다.");
+        }
+        checkCancelled();
+    }
+
+    public void checkCancelled() {
+        if (jobRepository.isCancelRequested(jobId)) {
+            throw new JobCancelledException();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+
+/**
+ * 작업 종류별 실행 로직. 스프링 빈으로 등록하면 {@link BackgroundJobWorker}가 종류에 맞게 찾아 실행합니다.
+ * <p>
+ * 실패(예외) 시 재시도될 수 있으므로, 이미 처리한 부분을 다시 실행해도 안전하게 작성해야 합니다.
+ */
+public interface JobHandler {
+
+    JobType type();
+
+    /**
+     * @return 작업 결과 요약 (관리자 작업 목록에 표시)
+     * @throws JobCancelledException {@link JobContext}가 취소 요청을 확인한 경우
+     */
+    String run(BackgroundJob job, JobContext context) throws Exception;
+}
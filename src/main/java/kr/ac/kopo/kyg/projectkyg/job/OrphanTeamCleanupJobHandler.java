@@ -0,0 +1,30 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import kr.ac.kopo.kyg.projectkyg.service.TeamDeletionService;
+import org.springframework.stereotype.Component;
+
+/** 팀장이 없는 고아 팀 일괄 정리 (배치마다 진행률 보고, 배치 사이에서 취소 가능) */
+@Component
+public class OrphanTeamCleanupJobHandler implements JobHandler {
+
+    private final TeamDeletionService teamDeletionService;
+
+    public OrphanTeamCleanupJobHandler(TeamDeletionService teamDeletionService) {
+        this.teamDeletionService = teamDeletionService;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.ORPHAN_TEAM_CLEANUP;
+    }
+
+    @Override
+    public String run(BackgroundJob job, JobContext context) {
+        long total = teamDeletionService.countOrphanTeams();
+        context.progress(0, total);
+        int deleted = teamDeletionService.deleteOrphanTeams(done -> context.progress(done, total));
+        return "고아 팀 " + deleted + "개를 삭제했습니다.";
+    }
+}
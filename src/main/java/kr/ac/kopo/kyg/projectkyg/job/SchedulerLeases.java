@@ -0,0 +1,57 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * scheduler_leases 로 정기 작업이 여러 인스턴스에서 동시에 실행되지 않게 합니다.
+ * <p>
+ * 실행권은 조건부 UPDATE 로 가져가며 ttl 이 지나면 만료되므로, 실행 중에 죽은 인스턴스의 실행권은 다른 인스턴스가 가져갑니다.
+ * 오래 걸리는 작업은 중간중간 {@link #renew}로 연장하고, 연장에 실패하면(다른 실행이 가져감) 중단해야 합니다.
+ */
+@Component
+public class SchedulerLeases {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulerLeases(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** @return 실행권을 얻으면 반납/연장에 쓸 토큰, 다른 실행이 가지고 있으면 empty */
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        String owner = UUID.randomUUID().toString().replace("-", "");
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(
+                "UPDATE scheduler_leases SET owner = ?, locked_until = ? "
+                        + "WHERE name = ? AND (locked_until IS NULL OR locked_until < ?)",
+                owner, now.plus(ttl), name, now);
+        if (updated == 0) {
+            // 처음 실행하는 작업이면 행을 만들며 획득
+            try {
+                jdbcTemplate.update("INSERT INTO scheduler_leases (name, owner, locked_until) VALUES (?, ?, ?)",
+                        name, owner, now.plus(ttl));
+            } catch (DuplicateKeyException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(owner);
+    }
+
+    /** @return 아직 실행권을 가지고 있어 연장했으면 true */
+    public boolean renew(String name, String owner, Duration ttl) {
+        return jdbcTemplate.update("UPDATE scheduler_leases SET locked_until = ? WHERE name = ? AND owner = ?",
+                LocalDateTime.now().plus(ttl), name, owner) > 0;
+    }
+
+    public void release(String name, String owner) {
+        jdbcTemplate.update("UPDATE scheduler_leases SET owner = NULL, locked_until = NULL WHERE name = ? AND owner = ?",
+                name, owner);
+    }
+}
@@ -0,0 +1,30 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import kr.ac.kopo.kyg.projectkyg.storage.SubmissionBlobMigrationJob;
+import org.springframework.stereotype.Component;
+
+/** 남아 있는 Submissions.file_data BLOB 을 저장소로 이관 (이미 이관된 행은 건너뛰므로 재시도해도 안전) */
+@Component
+public class SubmissionBlobMigrationJobHandler implements JobHandler {
+
+    private final SubmissionBlobMigrationJob migrationJob;
+
+    public SubmissionBlobMigrationJobHandler(SubmissionBlobMigrationJob migrationJob) {
+        this.migrationJob = migrationJob;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.SUBMISSION_BLOB_MIGRATION;
+    }
+
+    @Override
+    public String run(BackgroundJob job, JobContext context) {
+        long total = migrationJob.countPending();
+        context.progress(0, total);
+        int migrated = migrationJob.migrateAll(done -> context.progress(done, total));
+        return "제출 파일 " + migrated + "건을 이관했습니다.";
+    }
+}
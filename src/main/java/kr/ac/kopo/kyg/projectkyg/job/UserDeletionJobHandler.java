@@ -0,0 +1,30 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import kr.ac.kopo.kyg.projectkyg.service.UserDeletionService;
+import org.springframework.stereotype.Component;
+
+/** 사용자 삭제 (팀장인 팀은 고아 팀으로 전환) */
+@Component
+public class UserDeletionJobHandler implements JobHandler {
+
+    private final UserDeletionService userDeletionService;
+
+    public UserDeletionJobHandler(UserDeletionService userDeletionService) {
+        this.userDeletionService = userDeletionService;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.USER_DELETION;
+    }
+
+    @Override
+    public String run(BackgroundJob job, JobContext context) {
+        context.progress(0, 1L);
+        String username = userDeletionService.deleteUser(job.getTargetId());
+        context.progress(1, 1L);
+        return "사용자 " + username + "을(를) 삭제했습니다.";
+    }
+}
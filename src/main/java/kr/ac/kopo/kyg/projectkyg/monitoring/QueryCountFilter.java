@@ -0,0 +1,50 @@
+package kr.ac.kopo.kyg.projectkyg.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 SQL 수를 http.server.requests.queries 히스토그램으로 기록합니다. (N+1 회귀 감지용)
+ * 태그는 http.server.requests 와 같은 method/uri(매핑 패턴)를 사용합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // 보안 필터(로그인 사용자 조회)의 쿼리까지 포함
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCountingDataSource.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountingDataSource.reset();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(1, 5, 10, 20, 50)
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
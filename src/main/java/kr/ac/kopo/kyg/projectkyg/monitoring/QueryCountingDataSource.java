@@ -0,0 +1,101 @@
+package kr.ac.kopo.kyg.projectkyg.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * JDBC 수준에서 실행한 SQL 을 요청(스레드) 단위로 세는 DataSource. ({@link QueryCountFilter}가 요청마다 초기화/기록)
+ * <p>
+ * Hibernate 뿐 아니라 JdbcTemplate 으로 실행한 문장도 포함됩니다. 배치 실행(executeBatch)은 한 번으로 셉니다.
+ * sql.log.sample-rate 비율만큼은 SQL 을 구조화 로그(키-값)로 남깁니다. show-sql 처럼 모든 문장을 출력하지 않습니다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger("sql.sampled");
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final double sampleRate;
+
+    public QueryCountingDataSource(DataSource target, double sampleRate) {
+        super(target);
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /** 현재 스레드의 카운터를 0으로 돌리고 이전 값을 반환합니다. */
+    static int reset() {
+        int[] count = COUNT.get();
+        int previous = count[0];
+        count[0] = 0;
+        return previous;
+    }
+
+    /** 만드는 Statement 를 모두 세는 프록시로 바꿔 주는 커넥션 프록시 */
+    private Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                        // prepareStatement/prepareCall 은 첫 인자가 SQL
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return wrap(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement target, Class<?> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                    if (EXECUTE_METHODS.contains(method.getName())) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                        count(sql);
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private void count(String sql) {
+        int sequence = ++COUNT.get()[0];
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.atInfo()
+                    .addKeyValue("sql.sequence", sequence)
+                    .addKeyValue("sql.statement", sql != null ? sql : "batch")
+                    .log("sampled sql");
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package kr.ac.kopo.kyg.projectkyg.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryMonitoringConfig {
+
+    // 요청별 SQL 수 집계를 위해 DataSource 를 JDBC 수준에서 감쌈 (JPA, JdbcTemplate 모두 포함)
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(Environment environment) {
+        double sampleRate = environment.getProperty("sql.log.sample-rate", Double.class, 0.0);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource, sampleRate);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package kr.ac.kopo.kyg.projectkyg.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제출 파일 업로드/다운로드 메트릭.
+ * <pre>
+ * submission.upload.bytes / submission.download.bytes   전송 바이트 (counter)
+ * submission.stored.bytes                               저장소에 실제로 쓰인 바이트 (압축 후, counter)
+ * submission.upload.duration / submission.download.duration  소요 시간 (timer)
+ * submission.file.size                                  저장된 파일 크기 분포
+ * </pre>
+ */
+@Component
+public class StorageMetrics {
+
+    private final Counter uploadBytes;
+    private final Counter downloadBytes;
+    private final Counter storedBytes;
+    private final Timer uploadDuration;
+    private final Timer downloadDuration;
+    private final DistributionSummary fileSize;
+
+    public StorageMetrics(MeterRegistry registry) {
+        this.uploadBytes = Counter.builder("submission.upload.bytes").baseUnit("bytes").register(registry);
+        this.downloadBytes = Counter.builder("submission.download.bytes").baseUnit("bytes").register(registry);
+        this.storedBytes = Counter.builder("submission.stored.bytes").baseUnit("bytes").register(registry);
+        this.uploadDuration = Timer.builder("submission.upload.duration").publishPercentileHistogram().register(registry);
+        this.downloadDuration = Timer.builder("submission.download.duration").publishPercentileHistogram().register(registry);
+        this.fileSize = DistributionSummary.builder("submission.file.size")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /** 저장소에 파일 한 개를 저장했을 때 (storedBytes: 압축 후 실제로 쓰인 크기) */
+    public void recordUpload(long bytes, long storedBytes, long nanos) {
+        uploadBytes.increment(bytes);
+        this.storedBytes.increment(storedBytes);
+        uploadDuration.record(nanos, TimeUnit.NANOSECONDS);
+        fileSize.record(bytes);
+    }
+
+    /** 응답으로 파일(또는 Range 구간)을 전송했을 때 */
+    public void recordDownload(long bytes, long nanos) {
+        downloadBytes.increment(bytes);
+        downloadDuration.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,11 +1,27 @@
 package kr.ac.kopo.kyg.projectkyg.repository;
 
 import kr.ac.kopo.kyg.projectkyg.domain.Assignment;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.AssignmentDeadline;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     // 팀 ID로 과제 리스트 조회
     List<Assignment> findByTeamId(Long teamId);
+
+    // 마감 스케줄러 적재용: 아직 마감되지 않은 과제
+    @Query("SELECT new kr.ac.kopo.kyg.projectkyg.repository.projection.AssignmentDeadline(a.id, a.team.id, a.deadline)"
+            + " FROM Assignment a WHERE a.deadline > :now")
+    List<AssignmentDeadline> findUpcomingDeadlines(@Param("now") LocalDateTime now);
+
+    // 팀 일괄 삭제용 (제출물을 먼저 지운 뒤 호출)
+    @Modifying
+    @Query("DELETE FROM Assignment a WHERE a.team.id IN :teamIds")
+    int deleteByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
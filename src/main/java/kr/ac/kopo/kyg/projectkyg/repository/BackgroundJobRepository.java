@@ -0,0 +1,118 @@
+package kr.ac.kopo.kyg.projectkyg.repository;
+
+import jakarta.transaction.Transactional;
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobStatus;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 백그라운드 작업 저장소.
+ * 상태 변경은 모두 조건부 UPDATE 라서, 같은 작업을 두 워커가 동시에 가져가거나
+ * 끝난 작업이 다시 실행 상태로 바뀌는 일이 없습니다.
+ * 실행 중 상태 변경은 가져갈 때 받은 claimToken 이 일치해야 하므로, 다시 큐에 들어간 작업을
+ * 이전 워커가 늦게 갱신/종료하지 못합니다.
+ */
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, Long> {
+
+    /** JPQL 에서 enum 상수를 쓰기 위한 접두사 */
+    String JOB_STATUS = "kr.ac.kopo.kyg.projectkyg.domain.JobStatus.";
+
+    // 관리자 작업 목록 (최근 순)
+    List<BackgroundJob> findTop50ByOrderByIdDesc();
+
+    // 같은 대상의 진행 중인 작업 (중복 요청 방지)
+    Optional<BackgroundJob> findFirstByTypeAndTargetIdAndStatusIn(JobType type, Long targetId, Collection<JobStatus> statuses);
+
+    // 실행할 수 있는 다음 작업
+    @Query("SELECT j.id FROM BackgroundJob j WHERE j.status = " + JOB_STATUS + "QUEUED AND j.runAfter <= :now " +
+            "ORDER BY j.id LIMIT 1")
+    Optional<Long> findNextRunnableId(@Param("now") LocalDateTime now);
+
+    @Query("SELECT j.cancelRequested FROM BackgroundJob j WHERE j.id = :id")
+    boolean isCancelRequested(@Param("id") Long id);
+
+    /** QUEUED 인 작업만 RUNNING 으로 가져감 (1 이면 성공, 이후 상태 변경에는 token 이 필요) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = " + JOB_STATUS + "RUNNING, j.attempts = j.attempts + 1, " +
+            "j.claimToken = :token, j.startedAt = :now, j.heartbeatAt = :now, j.finishedAt = null " +
+            "WHERE j.id = :id AND j.status = " + JOB_STATUS + "QUEUED")
+    int claim(@Param("id") Long id, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    /** @return 0 이면 이 실행은 더 이상 작업을 가지고 있지 않음 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.progressDone = :done, j.progressTotal = :total, j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.claimToken = :token AND j.status = " + JOB_STATUS + "RUNNING")
+    int updateProgress(@Param("id") Long id, @Param("token") String token, @Param("done") long done,
+                       @Param("total") Long total, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.heartbeatAt = :now " +
+            "WHERE j.claimToken IN :tokens AND j.status = " + JOB_STATUS + "RUNNING")
+    int heartbeat(@Param("tokens") Collection<String> tokens, @Param("now") LocalDateTime now);
+
+    /** 실행 중인 작업 종료 (성공/실패/취소) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = :status, j.message = :message, j.finishedAt = :now, j.claimToken = null " +
+            "WHERE j.id = :id AND j.claimToken = :token AND j.status = " + JOB_STATUS + "RUNNING")
+    int finish(@Param("id") Long id, @Param("token") String token, @Param("status") JobStatus status,
+               @Param("message") String message, @Param("now") LocalDateTime now);
+
+    /** 실패한 실행을 runAfter 이후 다시 실행하도록 되돌림 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = " + JOB_STATUS + "QUEUED, j.message = :message, j.runAfter = :runAfter, " +
+            "j.claimToken = null " +
+            "WHERE j.id = :id AND j.claimToken = :token AND j.status = " + JOB_STATUS + "RUNNING")
+    int requeue(@Param("id") Long id, @Param("token") String token, @Param("message") String message,
+                @Param("runAfter") LocalDateTime runAfter);
+
+    /** 아직 시작하지 않은 작업은 바로 취소 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = " + JOB_STATUS + "CANCELLED, j.message = :message, j.finishedAt = :now " +
+            "WHERE j.id = :id AND j.status = " + JOB_STATUS + "QUEUED")
+    int cancelQueued(@Param("id") Long id, @Param("message") String message, @Param("now") LocalDateTime now);
+
+    /** 실행 중인 작업에 취소 요청 표시 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.cancelRequested = true WHERE j.id = :id AND j.status = " + JOB_STATUS + "RUNNING")
+    int requestCancel(@Param("id") Long id);
+
+    /** 실패/취소된 작업을 처음부터 다시 실행 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = " + JOB_STATUS + "QUEUED, j.attempts = 0, j.cancelRequested = false, " +
+            "j.progressDone = 0, j.progressTotal = null, j.message = null, j.runAfter = :now, j.finishedAt = null " +
+            "WHERE j.id = :id AND j.status IN (" + JOB_STATUS + "FAILED, " + JOB_STATUS + "CANCELLED)")
+    int retry(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** heartbeat 가 끊긴(워커가 종료된) 작업 중 시도 횟수가 남은 것을 다시 큐에 넣음 (끊긴 실행도 한 번의 시도) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = " + JOB_STATUS + "QUEUED, j.runAfter = :now, j.claimToken = null, " +
+            "j.message = '작업자가 중단되어 다시 실행합니다.' " +
+            "WHERE j.status = " + JOB_STATUS + "RUNNING AND j.heartbeatAt < :threshold AND j.attempts < j.maxAttempts")
+    int requeueStale(@Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
+
+    /** heartbeat 가 끊긴 작업 중 시도 횟수를 모두 쓴 것은 실패 처리 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = " + JOB_STATUS + "FAILED, j.finishedAt = :now, j.claimToken = null, " +
+            "j.message = '작업자가 중단되었고 재시도 횟수를 모두 사용했습니다.' " +
+            "WHERE j.status = " + JOB_STATUS + "RUNNING AND j.heartbeatAt < :threshold AND j.attempts >= j.maxAttempts")
+    int failStale(@Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
+}
@@ -3,20 +3,67 @@ package kr.ac.kopo.kyg.projectkyg.repository;
 import jakarta.transaction.Transactional;
 import kr.ac.kopo.kyg.projectkyg.domain.Assignment; // 👈 Assignment import 추가
 import kr.ac.kopo.kyg.projectkyg.domain.Submission;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.DownloadValidator;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.SubmissionArchiveEntry;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.SubmissionSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface SubmissionRepository extends JpaRepository<Submission, Long> {
 
+    /** 제출물 요약 조회 공통 부분 (사용자/과제는 필요한 컬럼만 조인, 지연 여부가 없는 이전 데이터는 제출 시각으로 판단) */
+    String SUMMARY_SELECT = "SELECT new kr.ac.kopo.kyg.projectkyg.repository.projection.SubmissionSummary("
+            + "s.id, u.id, u.name, a.id, a.name, s.submittedAt, s.fileName, s.fileSize, "
+            + "COALESCE(s.late, CASE WHEN s.submittedAt > a.deadline THEN true ELSE false END)) "
+            + "FROM Submission s JOIN s.user u JOIN s.assignment a ";
+
+    /** 특정 과제의 제출물 요약 목록 (제출 순) */
+    @Query(SUMMARY_SELECT + "WHERE a.id = :assignmentId ORDER BY s.submittedAt")
+    List<SubmissionSummary> findSummariesByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    /** 특정 팀 전체 과제의 제출물 요약 목록 (과제 마감일, 제출 순) */
+    @Query(SUMMARY_SELECT + "WHERE a.team.id = :teamId ORDER BY a.deadline, a.id, s.submittedAt")
+    List<SubmissionSummary> findSummariesByTeamId(@Param("teamId") Long teamId);
+
+    /** ZIP 내보내기 항목 조회 공통 부분 (SUMMARY_SELECT 와 같은 지연 여부 규칙) */
+    String ARCHIVE_SELECT = "SELECT new kr.ac.kopo.kyg.projectkyg.repository.projection.SubmissionArchiveEntry("
+            + "s.id, u.name, u.username, a.name, s.fileName, s.contentType, s.storageKey, s.fileSize, s.checksum, "
+            + "s.submittedAt, COALESCE(s.late, CASE WHEN s.submittedAt > a.deadline THEN true ELSE false END)) "
+            + "FROM Submission s JOIN s.user u JOIN s.assignment a ";
+
+    /** 특정 과제의 제출물 ZIP 항목 (제출자 이름 순) */
+    @Query(ARCHIVE_SELECT + "WHERE a.id = :assignmentId ORDER BY u.name, s.id")
+    List<SubmissionArchiveEntry> findArchiveEntriesByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    /** 팀 전체 과제의 제출물 ZIP 항목 (과제 마감일, 제출자 이름 순) */
+    @Query(ARCHIVE_SELECT + "WHERE a.team.id = :teamId ORDER BY a.deadline, a.id, u.name, s.id")
+    List<SubmissionArchiveEntry> findArchiveEntriesByTeamId(@Param("teamId") Long teamId);
+
+    /** 다운로드 304 판단용 (엔티티를 읽지 않음) */
+    @Query("SELECT new kr.ac.kopo.kyg.projectkyg.repository.projection.DownloadValidator("
+            + "s.checksum, s.contentEncoding, s.submittedAt) FROM Submission s WHERE s.id = :id")
+    Optional<DownloadValidator> findDownloadValidator(@Param("id") Long id);
+
     /** 특정 과제에 대한 모든 제출 조회 */
     List<Submission> findByAssignmentId(Long assignmentId);
 
     /** 특정 과제에 대한 특정 사용자의 제출 조회 */
     Optional<Submission> findByAssignmentIdAndUserId(Long assignmentId, Long userId);
 
+    /**
+     * 특정 팀의 과제 중 사용자가 제출한 과제 ID 집합을 한 번에 조회합니다.
+     * (과제마다 제출 여부를 조회하지 않도록 프로젝트 목록 페이지에서 사용, 파일/연관 엔티티는 읽지 않음)
+     */
+    @Query("SELECT s.assignment.id FROM Submission s WHERE s.user.id = :userId AND s.assignment.team.id = :teamId")
+    Set<Long> findSubmittedAssignmentIds(@Param("userId") Long userId, @Param("teamId") Long teamId);
+
     /** 특정 사용자가 제출한 모든 제출물 조회 */
     List<Submission> findByUserId(Long userId);
 
@@ -37,13 +84,30 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     /** 특정 과제에 대해 제출일시 순으로 정렬하여 조회 */
     List<Submission> findByAssignmentIdOrderBySubmittedAtAsc(Long assignmentId);
 
-    /** 저장된 실제 파일 이름으로 제출물 조회 */
-    Optional<Submission> findByStoredUniqueName(String storedUniqueName);
-
     /** 사용자 이름으로 검색 */
     @Query("SELECT s FROM Submission s JOIN s.user u WHERE u.username LIKE %:username%")
     List<Submission> findByUserUsernameContaining(String username);
 
     @Transactional
     void deleteAllByAssignmentId(Long assignmentId);
-}
\ No newline at end of file
+
+    // --- 팀 일괄 삭제 (TeamDeletionService) ---
+
+    /** 팀들의 과제에 제출된 파일의 저장 키 (삭제 후 저장소 정리용) */
+    @Query("SELECT s.storageKey FROM Submission s WHERE s.assignment.team.id IN :teamIds AND s.storageKey IS NOT NULL")
+    List<String> findStorageKeysByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    // --- 사용자 삭제 (UserDeletionService) ---
+
+    @Query("SELECT s.storageKey FROM Submission s WHERE s.user.id = :userId AND s.storageKey IS NOT NULL")
+    List<String> findStorageKeysByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Submission s WHERE s.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /** 팀들의 과제에 대한 제출물을 한 문장으로 삭제 (엔티티/BLOB 을 읽지 않음) */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Submission s WHERE s.assignment.id IN (SELECT a.id FROM Assignment a WHERE a.team.id IN :teamIds)")
+    int deleteByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+}
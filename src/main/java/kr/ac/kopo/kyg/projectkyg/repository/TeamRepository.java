@@ -1,13 +1,19 @@
 package kr.ac.kopo.kyg.projectkyg.repository;
 
 import kr.ac.kopo.kyg.projectkyg.domain.Team;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.TeamDashboardRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
@@ -18,10 +24,34 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     // 팀 이름과 비밀번호로 팀을 찾는 메소드
     Optional<Team> findByNameAndPassword(String name, String password);
 
+    // 사용자가 팀장인 팀 ID 목록 (사용자 캐시 적재용)
+    @Query("SELECT t.id FROM Team t WHERE t.managerUsername = :username")
+    Set<Long> findIdsByManagerUsername(@Param("username") String username);
+
     // 사용자의 username으로 팀 목록을 찾는 새로운 메서드
     @Query("SELECT t FROM Team t JOIN t.users u WHERE u.username = :username")
     List<Team> findTeamsByUsername(@Param("username") String username);
 
+    /**
+     * 메인 페이지용: 사용자가 속한 팀 목록과 팀장 이름, 미제출 과제 유무를 한 번의 쿼리로 조회합니다.
+     * 미제출 과제 유무는 과제/제출물을 비교하지 않고 미리 계산된 user_team_status 행(팀당 한 행)에서 읽습니다.
+     */
+    @Query("""
+            SELECT t.id AS id,
+                   t.name AS name,
+                   t.description AS description,
+                   COALESCE(m.name, t.managerName) AS managerName,
+                   CASE WHEN t.managerUsername = u.username THEN true ELSE false END AS isTeamManager,
+                   CASE WHEN st.openUnsubmitted > 0 THEN true ELSE false END AS hasUnsubmittedAssignment
+            FROM Team t
+            JOIN t.users u
+            LEFT JOIN User m ON m.username = t.managerUsername
+            LEFT JOIN UserTeamStatus st ON st.teamId = t.id AND st.userId = u.id
+            WHERE u.username = :username
+            ORDER BY t.id
+            """)
+    List<TeamDashboardRow> findDashboardRows(@Param("username") String username);
+
     // 🟢 추가: 특정 사용자가 팀장인 모든 팀을 찾는 메서드 (기존 유지)
     List<Team> findByManagerUsername(String managerUsername);
 
@@ -31,4 +61,41 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
      * 이는 관리자가 탈퇴하여 managerName이 NULL 문자열로 설정된 '고아 팀'을 찾는 데 사용됩니다.
      */
     List<Team> findByManagerName(String managerName);
-}
\ No newline at end of file
+
+    // --- 관리자 목록: 키셋(seek) 페이지네이션 (UserRepository 와 같은 규칙) ---
+
+    /** ID 순 목록: 직전 페이지 마지막 ID 다음부터 */
+    @Query("SELECT t FROM Team t WHERE t.name LIKE :prefix ESCAPE '!' AND t.id > :afterId ORDER BY t.id")
+    Slice<Team> findPageOrderById(@Param("prefix") String prefix,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
+    /** 이름 순 목록: (name, id) 가 직전 페이지 마지막 행 다음부터 */
+    @Query("SELECT t FROM Team t WHERE t.name LIKE :prefix ESCAPE '!'"
+            + " AND (t.name > :afterName OR (t.name = :afterName AND t.id > :afterId)) ORDER BY t.name, t.id")
+    Slice<Team> findPageOrderByName(@Param("prefix") String prefix,
+                                    @Param("afterName") String afterName,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    // --- 팀 일괄 삭제 (TeamDeletionService) ---
+
+    /** 고아 팀 ID (배치 크기만큼) */
+    @Query("SELECT t.id FROM Team t WHERE t.managerName = :managerName ORDER BY t.id")
+    List<Long> findIdsByManagerName(@Param("managerName") String managerName, Pageable pageable);
+
+    long countByManagerName(String managerName);
+
+    /** 팀장이 삭제된 팀을 고아 팀으로 표시 (NOT NULL 제약 때문에 "NULL" 문자열 사용) */
+    @Modifying
+    @Query("UPDATE Team t SET t.managerName = 'NULL', t.managerUsername = 'NULL' WHERE t.managerUsername = :username")
+    int orphanTeamsManagedBy(@Param("username") String username);
+
+    @Query("SELECT t.managerUsername FROM Team t WHERE t.id IN :teamIds")
+    List<String> findManagerUsernamesByIds(@Param("teamIds") Collection<Long> teamIds);
+
+    /** 마지막 삭제 단계: 영속성 컨텍스트에 남은 삭제된 엔티티도 비움 */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Team t WHERE t.id IN :teamIds")
+    int deleteByIds(@Param("teamIds") Collection<Long> teamIds);
+}
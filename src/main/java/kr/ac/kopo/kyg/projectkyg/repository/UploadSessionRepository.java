@@ -0,0 +1,13 @@
+package kr.ac.kopo.kyg.projectkyg.repository;
+
+import kr.ac.kopo.kyg.projectkyg.domain.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /** 마지막 활동 시각이 기준 시각 이전인(방치된) 세션 조회 */
+    List<UploadSession> findByLastActivityAtBefore(LocalDateTime threshold);
+}
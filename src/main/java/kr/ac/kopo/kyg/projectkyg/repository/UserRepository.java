@@ -1,12 +1,18 @@
 package kr.ac.kopo.kyg.projectkyg.repository;
 
 import kr.ac.kopo.kyg.projectkyg.domain.User;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.UserCacheVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -17,4 +23,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // username으로 User를 찾으면서 관련 팀 정보까지 함께 가져오기
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.teams WHERE u.username = :username")
     Optional<User> findByUsernameWithTeams(@Param("username") String username);
+
+    // 사용자가 가입한 팀 ID 목록 (사용자 캐시 적재용)
+    @Query("SELECT t.id FROM User u JOIN u.teams t WHERE u.id = :userId")
+    Set<Long> findTeamIdsByUserId(@Param("userId") Long userId);
+
+    // 사용자 캐시 검증용 버전
+    @Query("SELECT u.cacheVersion FROM User u WHERE u.username = :username")
+    Optional<Long> findCacheVersionByUsername(@Param("username") String username);
+
+    @Query("SELECT new kr.ac.kopo.kyg.projectkyg.repository.projection.UserCacheVersion(u.username, u.cacheVersion)"
+            + " FROM User u WHERE u.username IN :usernames")
+    List<UserCacheVersion> findCacheVersionsByUsernames(@Param("usernames") Collection<String> usernames);
+
+    // 팀들에 가입한 사용자 username (팀 일괄 삭제 후 캐시 무효화용)
+    @Query("SELECT DISTINCT u.username FROM User u JOIN u.teams t WHERE t.id IN :teamIds")
+    List<String> findUsernamesByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    // --- 관리자 목록: 키셋(seek) 페이지네이션 ---
+    // prefix 는 LIKE 패턴('abc%', 특수문자는 '!'로 이스케이프), Pageable 은 크기만 사용 (offset 은 항상 0)
+    // 검색은 정렬 컬럼에만 적용하여 그 인덱스(username 유니크 / idx_users_name_id)의 범위 스캔으로 끝나게 함
+
+    /** username 순 목록: username 접두 검색, 직전 페이지 마지막 username 다음부터 */
+    @Query("SELECT u FROM User u WHERE u.username LIKE :prefix ESCAPE '!'"
+            + " AND u.username > :afterUsername ORDER BY u.username")
+    Slice<User> findPageOrderByUsername(@Param("prefix") String prefix,
+                                        @Param("afterUsername") String afterUsername,
+                                        Pageable pageable);
+
+    /** 이름 순 목록: 이름 접두 검색, (name, id) 가 직전 페이지 마지막 행 다음부터 */
+    @Query("SELECT u FROM User u WHERE u.name LIKE :prefix ESCAPE '!'"
+            + " AND (u.name > :afterName OR (u.name = :afterName AND u.id > :afterId)) ORDER BY u.name, u.id")
+    Slice<User> findPageOrderByName(@Param("prefix") String prefix,
+                                    @Param("afterName") String afterName,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package kr.ac.kopo.kyg.projectkyg.repository;
+
+import kr.ac.kopo.kyg.projectkyg.domain.UserTeamStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * user_team_status 조회.
+ * 갱신은 {@link kr.ac.kopo.kyg.projectkyg.service.UserTeamStatusService}가 JDBC 로 합니다.
+ * (영속성 컨텍스트를 거치지 않는 집합 연산이므로)
+ */
+@Repository
+public interface UserTeamStatusRepository extends JpaRepository<UserTeamStatus, UserTeamStatus.Key> {
+}
@@ -0,0 +1,11 @@
+package kr.ac.kopo.kyg.projectkyg.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 스케줄러에 등록할 과제의 마감 시각.
+ */
+public record AssignmentDeadline(Long assignmentId,
+                                 Long teamId,
+                                 LocalDateTime deadline) {
+}
@@ -0,0 +1,12 @@
+package kr.ac.kopo.kyg.projectkyg.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다운로드 조건부 요청(If-None-Match / If-Modified-Since) 비교에 필요한 값.
+ * 체크섬이 없으면(스토리지로 이관 전) 비교하지 않습니다.
+ */
+public record DownloadValidator(String checksum,
+                                String contentEncoding,
+                                LocalDateTime submittedAt) {
+}
@@ -0,0 +1,22 @@
+package kr.ac.kopo.kyg.projectkyg.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출물 ZIP 내보내기 한 항목 (파일 내용 없이 저장소 위치와 이름 짓기에 필요한 값만 조회).
+ *
+ * @param storageKey 저장소 키 (아직 BLOB 에서 이관되지 않은 이전 제출물은 null)
+ * @param late       지연 제출 여부
+ */
+public record SubmissionArchiveEntry(Long id,
+                                     String userName,
+                                     String username,
+                                     String assignmentName,
+                                     String fileName,
+                                     String contentType,
+                                     String storageKey,
+                                     Long fileSize,
+                                     String checksum,
+                                     LocalDateTime submittedAt,
+                                     Boolean late) {
+}
@@ -0,0 +1,20 @@
+package kr.ac.kopo.kyg.projectkyg.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출물 목록 화면용 요약 (파일 내용/연관 엔티티를 읽지 않는 생성자 표현식 조회 결과).
+ *
+ * @param fileSize 원본 파일 크기 (아직 저장소로 이관되지 않은 이전 제출물은 null)
+ * @param late     지연 제출 여부
+ */
+public record SubmissionSummary(Long id,
+                                Long userId,
+                                String userName,
+                                Long assignmentId,
+                                String assignmentName,
+                                LocalDateTime submittedAt,
+                                String fileName,
+                                Long fileSize,
+                                Boolean late) {
+}
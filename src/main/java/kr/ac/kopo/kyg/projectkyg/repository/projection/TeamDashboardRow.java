@@ -0,0 +1,23 @@
+package kr.ac.kopo.kyg.projectkyg.repository.projection;
+
+/**
+ * 메인 페이지 팀 카드 한 장에 필요한 값만 담은 조회 전용 프로젝션.
+ * (TeamRepository#findDashboardRows 한 번의 쿼리로 채워집니다)
+ */
+public interface TeamDashboardRow {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    /** 팀장 표시 이름 (users 테이블의 현재 이름, 없으면 teams.manager_name) */
+    String getManagerName();
+
+    /** 로그인 사용자가 이 팀의 팀장인지 */
+    Boolean getIsTeamManager();
+
+    /** 마감 전인데 로그인 사용자가 아직 제출하지 않은 과제가 있는지 */
+    Boolean getHasUnsubmittedAssignment();
+}
@@ -0,0 +1,8 @@
+package kr.ac.kopo.kyg.projectkyg.repository.projection;
+
+/**
+ * 사용자 캐시 항목을 검증할 때 비교하는 버전.
+ */
+public record UserCacheVersion(String username,
+                               long cacheVersion) {
+}
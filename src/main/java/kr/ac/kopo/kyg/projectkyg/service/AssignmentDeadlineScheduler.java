@@ -0,0 +1,213 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.ac.kopo.kyg.projectkyg.event.DeadlinePassedEvent;
+import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.AssignmentDeadline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 과제 마감 시각에 맞춰 팀의 user_team_status 를 다시 계산하고(마감된 과제는 미제출 수에서 빠짐),
+ * 팀 화면에 {@link DeadlinePassedEvent}를 알립니다.
+ * <p>
+ * 마감 시각 순 우선순위 큐를 스레드 하나가 맨 앞 마감 시각까지 기다렸다가 처리합니다.
+ * 과제 추가/삭제는 {@link #schedule}/{@link #cancel}로 반영하며, 취소/변경된 항목은 큐에서 바로 빼지 않고
+ * 꺼낼 때 현재 등록된 마감 시각과 다르면 건너뜁니다.
+ * 시작 시 전체를 재계산한 뒤 마감 전 과제를 적재하고, 다른 경로로 바뀐 마감일은 주기적으로 다시 적재합니다.
+ */
+@Component
+public class AssignmentDeadlineScheduler implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentDeadlineScheduler.class);
+
+    private record PendingDeadline(Long assignmentId, Long teamId, Instant at) {
+    }
+
+    private final AssignmentRepository assignmentRepository;
+    private final UserTeamStatusService statusService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<PendingDeadline> queue = new PriorityQueue<>(Comparator.comparing(PendingDeadline::at));
+    // 과제 ID → 현재 유효한 마감 시각
+    private final Map<Long, Instant> scheduled = new HashMap<>();
+
+    private Thread worker;
+
+    @Autowired
+    public AssignmentDeadlineScheduler(AssignmentRepository assignmentRepository,
+                                       UserTeamStatusService statusService,
+                                       ApplicationEventPublisher eventPublisher) {
+        this(assignmentRepository, statusService, eventPublisher, Clock.systemDefaultZone());
+    }
+
+    // 테스트에서 시각을 고정하기 위한 생성자
+    AssignmentDeadlineScheduler(AssignmentRepository assignmentRepository,
+                                UserTeamStatusService statusService,
+                                ApplicationEventPublisher eventPublisher,
+                                Clock clock) {
+        this.assignmentRepository = assignmentRepository;
+        this.statusService = statusService;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int rows = statusService.rebuildAll();
+        log.info("미제출 과제 현황 {}건을 다시 계산했습니다.", rows);
+        reload();
+
+        worker = new Thread(this::loop, "assignment-deadline");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /** 과제 마감 등록 (이미 등록된 과제면 마감 시각 변경) */
+    public void schedule(Long assignmentId, Long teamId, LocalDateTime deadline) {
+        Instant at = deadline.atZone(clock.getZone()).toInstant();
+        lock.lock();
+        try {
+            if (at.equals(scheduled.put(assignmentId, at))) {
+                return;
+            }
+            queue.add(new PendingDeadline(assignmentId, teamId, at));
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 과제 삭제 시 */
+    public void cancel(Long assignmentId) {
+        lock.lock();
+        try {
+            scheduled.remove(assignmentId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 마감 전 과제를 DB 에서 다시 적재합니다. */
+    @Scheduled(initialDelayString = "${assignment.deadline.reload-interval:PT1H}",
+            fixedDelayString = "${assignment.deadline.reload-interval:PT1H}")
+    public void reload() {
+        for (AssignmentDeadline deadline : assignmentRepository.findUpcomingDeadlines(LocalDateTime.now(clock))) {
+            schedule(deadline.assignmentId(), deadline.teamId(), deadline.deadline());
+        }
+    }
+
+    private void loop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                fire(awaitDue());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 지금 시각까지 마감된 과제를 기다리지 않고 바로 처리합니다.
+     *
+     * @return 처리한 과제 수
+     */
+    int fireDue() {
+        List<PendingDeadline> due;
+        lock.lock();
+        try {
+            due = takeDue(clock.instant());
+        } finally {
+            lock.unlock();
+        }
+        fire(due);
+        return due.size();
+    }
+
+    private void fire(List<PendingDeadline> due) {
+        Set<Long> teamIds = new LinkedHashSet<>();
+        due.forEach(deadline -> teamIds.add(deadline.teamId()));
+        for (Long teamId : teamIds) {
+            try {
+                statusService.refreshTeam(teamId);
+            } catch (RuntimeException e) {
+                log.warn("마감된 과제의 팀 현황 갱신 실패: teamId={}", teamId, e);
+            }
+        }
+        // 현황을 갱신한 뒤 알려야 화면이 다시 조회했을 때 마감이 반영되어 있음
+        due.forEach(deadline ->
+                eventPublisher.publishEvent(new DeadlinePassedEvent(deadline.teamId(), deadline.assignmentId())));
+    }
+
+    /** 맨 앞 마감 시각까지 기다렸다가, 마감된 과제를 꺼냅니다. */
+    private List<PendingDeadline> awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                PendingDeadline head = queue.peek();
+                if (head == null) {
+                    changed.await();
+                    continue;
+                }
+                long waitNanos = Duration.between(clock.instant(), head.at()).toNanos();
+                if (waitNanos > 0) {
+                    // 더 이른 마감이 등록되면 signal 로 깨어나 다시 확인
+                    changed.awaitNanos(waitNanos);
+                    continue;
+                }
+
+                List<PendingDeadline> due = takeDue(clock.instant());
+                if (!due.isEmpty()) {
+                    return due;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** now 까지 마감된 항목을 마감 시각 순으로 꺼냅니다. (lock 을 잡은 상태에서 호출) */
+    private List<PendingDeadline> takeDue(Instant now) {
+        List<PendingDeadline> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+            PendingDeadline head = queue.poll();
+            // 취소되었거나 마감 시각이 바뀐 항목은 건너뜀
+            if (head.at().equals(scheduled.get(head.assignmentId()))) {
+                scheduled.remove(head.assignmentId());
+                due.add(head);
+            }
+        }
+        return due;
+    }
+}
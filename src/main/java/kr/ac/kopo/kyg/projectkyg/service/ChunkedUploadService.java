@@ -0,0 +1,193 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.domain.UploadSession;
+import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.UploadSessionRepository;
+import kr.ac.kopo.kyg.projectkyg.storage.UploadChunkStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.UUID;
+
+/**
+ * 이어 올리기가 가능한 분할 업로드.
+ * <p>
+ * 1) 세션 생성 → 2) 번호별 청크 PUT (같은 번호 재전송은 덮어쓰기라 멱등) → 3) commit.
+ * commit 시 청크를 순서대로 이어 {@link SubmissionService}로 제출하며,
+ * 지연 제출 여부는 commit 시각이 아닌 세션 시작 시각으로 판단하되, 마감 후 내용을 바꿀 수 없도록
+ * 마지막 청크가 시작 후 submission.upload.late-grace 안에 들어온 경우에만 시작 시각을 인정합니다.
+ * 일정 시간 활동이 없는 세션은 주기적으로 정리됩니다.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final UserCache userCache;
+    private final UploadChunkStore chunkStore;
+    private final SubmissionService submissionService;
+    private final int chunkSize;
+    private final Duration sessionTtl;
+    private final Duration lateGrace;
+
+    public ChunkedUploadService(UploadSessionRepository uploadSessionRepository,
+                                AssignmentRepository assignmentRepository,
+                                UserCache userCache,
+                                UploadChunkStore chunkStore,
+                                SubmissionService submissionService,
+                                @Value("${submission.upload.chunk-size:8MB}") DataSize chunkSize,
+                                @Value("${submission.upload.session-ttl:PT24H}") Duration sessionTtl,
+                                @Value("${submission.upload.late-grace:PT15M}") Duration lateGrace) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.userCache = userCache;
+        this.chunkStore = chunkStore;
+        this.submissionService = submissionService;
+        this.chunkSize = Math.toIntExact(chunkSize.toBytes());
+        this.sessionTtl = sessionTtl;
+        this.lateGrace = lateGrace;
+    }
+
+    /** 업로드 세션 생성 */
+    public UploadSession createSession(Long assignmentId,
+                                       String username,
+                                       String fileName,
+                                       String contentType,
+                                       long totalSize) {
+        if (totalSize <= 0) {
+            throw new IllegalArgumentException("제출할 파일을 선택해주세요.");
+        }
+        if (totalSize > submissionService.getMaxUploadBytes()) {
+            throw new IllegalArgumentException("파일 크기가 허용된 최대 크기를 초과했습니다.");
+        }
+        if (!assignmentRepository.existsById(assignmentId)) {
+            throw new IllegalStateException("과제를 찾을 수 없습니다.");
+        }
+        UserSnapshot user = userCache.require(username);
+
+        LocalDateTime now = LocalDateTime.now();
+        UploadSession session = new UploadSession();
+        session.setId(UUID.randomUUID().toString().replace("-", ""));
+        session.setAssignmentId(assignmentId);
+        session.setUserId(user.id());
+        session.setFileName(fileName);
+        session.setContentType(contentType);
+        session.setTotalSize(totalSize);
+        session.setChunkSize(chunkSize);
+        session.setChunkCount(Math.toIntExact((totalSize + chunkSize - 1) / chunkSize));
+        session.setStartedAt(now);
+        session.setLastActivityAt(now);
+        return uploadSessionRepository.save(session);
+    }
+
+    /** 청크 수신 (같은 번호를 다시 보내면 덮어씀) */
+    public void receiveChunk(Long assignmentId, String sessionId, String username,
+                             int index, InputStream content) throws IOException {
+        UploadSession session = findOwnedSession(assignmentId, sessionId, username);
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new IllegalArgumentException("잘못된 청크 번호입니다: " + index);
+        }
+
+        // 크기가 맞지 않는 청크는 저장되지 않으므로 클라이언트가 같은 번호를 다시 보냄
+        chunkStore.writeChunk(sessionId, index, content, session.expectedChunkSize(index));
+
+        session.setLastActivityAt(LocalDateTime.now());
+        uploadSessionRepository.save(session);
+    }
+
+    /** 수신 완료된 청크 번호 (클라이언트가 이어 올릴 위치를 찾는 데 사용) */
+    public SortedSet<Integer> receivedChunks(Long assignmentId, String sessionId, String username) throws IOException {
+        findOwnedSession(assignmentId, sessionId, username);
+        return chunkStore.receivedChunks(sessionId);
+    }
+
+    public UploadSession getSession(Long assignmentId, String sessionId, String username) {
+        return findOwnedSession(assignmentId, sessionId, username);
+    }
+
+    /** 모든 청크를 이어 제출로 저장하고 세션을 정리합니다. */
+    public SubmissionService.SubmitResult commit(Long assignmentId, String sessionId, String username) throws IOException {
+        UploadSession session = findOwnedSession(assignmentId, sessionId, username);
+
+        for (int i = 0; i < session.getChunkCount(); i++) {
+            if (chunkStore.chunkSize(sessionId, i) != session.expectedChunkSize(i)) {
+                throw new IllegalStateException("아직 업로드되지 않은 청크가 있습니다: " + i);
+            }
+        }
+
+        SubmissionService.SubmitResult result;
+        try (InputStream assembled = chunkStore.openAssembled(sessionId, session.getChunkCount())) {
+            result = submissionService.submit(assignmentId, username, assembled,
+                    session.getFileName(), session.getContentType(), uploadedAt(session));
+        }
+
+        abort(session);
+        return result;
+    }
+
+    /**
+     * 지연 제출 판단에 쓸 시각.
+     * 마지막 청크 수신 시각(lastActivityAt)에서 유예 시간을 뺀 시각이며, 세션 시작 시각보다 앞서지 않습니다.
+     * 즉 마감 전에 시작해 유예 시간 안에 마지막 청크까지 올렸으면 마감 내 제출이고,
+     * 마감 + 유예 시간이 지나 받은 청크가 있으면 지연 제출입니다.
+     */
+    private LocalDateTime uploadedAt(UploadSession session) {
+        LocalDateTime graced = session.getLastActivityAt().minus(lateGrace);
+        return graced.isAfter(session.getStartedAt()) ? graced : session.getStartedAt();
+    }
+
+    /** 세션과 청크를 삭제합니다. */
+    public void abort(Long assignmentId, String sessionId, String username) throws IOException {
+        abort(findOwnedSession(assignmentId, sessionId, username));
+    }
+
+    /** 일정 시간 동안 청크가 들어오지 않은 세션 정리 */
+    @Scheduled(fixedDelayString = "${submission.upload.session-cleanup-interval:PT10M}")
+    public void purgeAbandonedSessions() {
+        List<UploadSession> abandoned = uploadSessionRepository.findByLastActivityAtBefore(LocalDateTime.now().minus(sessionTtl));
+        for (UploadSession session : abandoned) {
+            try {
+                abort(session);
+            } catch (IOException e) {
+                log.warn("업로드 세션 정리 실패: {}", session.getId(), e);
+            }
+        }
+        if (!abandoned.isEmpty()) {
+            log.info("방치된 업로드 세션 {}건을 정리했습니다.", abandoned.size());
+        }
+    }
+
+    private void abort(UploadSession session) throws IOException {
+        chunkStore.deleteSession(session.getId());
+        uploadSessionRepository.delete(session);
+    }
+
+    private UploadSession findOwnedSession(Long assignmentId, String sessionId, String username) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .filter(s -> s.getAssignmentId().equals(assignmentId))
+                .orElseThrow(() -> new UploadSessionNotFoundException(sessionId));
+        if (!session.getUserId().equals(userCache.require(username).id())) {
+            throw new UploadSessionNotFoundException(sessionId);
+        }
+        return session;
+    }
+
+    /** 세션이 없거나(만료/완료) 다른 사용자의 세션일 때 발생합니다. */
+    public static class UploadSessionNotFoundException extends RuntimeException {
+        public UploadSessionNotFoundException(String sessionId) {
+            super("업로드 세션을 찾을 수 없습니다: " + sessionId);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.event.TeamEvent;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 목록 화면의 조건부 요청(약한 ETag)에 쓰는 팀/과제별 버전.
+ * <p>
+ * 화면에 보이는 데이터를 바꾸는 쓰기가 버전을 올리고, 화면은 엔티티를 읽기 전에 현재 버전으로 만든 ETag 를
+ * If-None-Match 와 비교해 같으면 바로 304 로 응답합니다.
+ * 버전은 content_versions 테이블에 있으므로 여러 인스턴스가 같은 ETag 를 만들고, 트랜잭션 안에서 올리면
+ * 데이터와 함께 커밋됩니다. (버전을 먼저 읽으므로 이전 버전으로 새 데이터를 렌더링할 수는 있어도 그 반대는 없음)
+ */
+@Component
+public class ContentVersions {
+
+    // 브라우저는 저장하되 매번 다시 확인 (공유 캐시에는 저장하지 않음)
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    // 사용자 이름 변경/삭제처럼 여러 팀 화면에 걸친 변경
+    private static final String GLOBAL = "global";
+    // 팀 가입 화면의 팀 목록
+    private static final String TEAM_LIST = "team-list";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContentVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** 팀 화면(과제 목록, 팀 전체 제출 목록)의 데이터가 바뀔 때 */
+    public void touchTeam(Long teamId) {
+        increment(team(teamId));
+    }
+
+    /** 과제 제출 목록의 데이터가 바뀔 때 (팀 화면도 함께) */
+    public void touchAssignment(Long teamId, Long assignmentId) {
+        increment(assignment(assignmentId));
+        increment(team(teamId));
+    }
+
+    /** 팀 생성/이름 변경/해체 */
+    public void touchTeamList() {
+        increment(TEAM_LIST);
+    }
+
+    /** 여러 팀에 걸친 변경 (사용자 이름 변경/삭제, 팀 일괄 삭제) */
+    public void touchAll() {
+        increment(GLOBAL);
+        increment(TEAM_LIST);
+    }
+
+    /**
+     * 제출/과제 추가·삭제/마감.
+     * 발행한 트랜잭션의 커밋 직전에 같은 트랜잭션에서 올리므로 데이터와 버전이 함께 커밋되거나 함께 롤백됩니다.
+     * (트랜잭션 밖에서 발행된 마감 알림은 바로 올림)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTeamEvent(TeamEvent event) {
+        touchAssignment(event.teamId(), event.assignmentId());
+    }
+
+    /** 팀 화면 ETag (보는 사람의 팀장/팀원 여부에 따라 내용이 달라짐) */
+    public String teamTag(Long teamId, UserSnapshot viewer) {
+        Map<String, Long> versions = versions(GLOBAL, team(teamId));
+        return tag(versions.get(GLOBAL) + "-t" + teamId + "." + versions.get(team(teamId))
+                + "-" + viewer(teamId, viewer));
+    }
+
+    /** 과제 제출 목록 ETag */
+    public String assignmentTag(Long teamId, Long assignmentId, UserSnapshot viewer) {
+        Map<String, Long> versions = versions(GLOBAL, team(teamId), assignment(assignmentId));
+        return tag(versions.get(GLOBAL) + "-a" + assignmentId + "." + versions.get(assignment(assignmentId))
+                + "-t" + teamId + "." + versions.get(team(teamId)) + "-" + viewer(teamId, viewer));
+    }
+
+    /** 팀 가입 화면 ETag */
+    public String teamListTag() {
+        Map<String, Long> versions = versions(GLOBAL, TEAM_LIST);
+        return tag(versions.get(GLOBAL) + "-l" + versions.get(TEAM_LIST));
+    }
+
+    /**
+     * 캐시 헤더를 설정하고 If-None-Match 를 비교합니다.
+     *
+     * @return 변경이 없으면 true (304 로 응답했으므로 컨트롤러는 렌더링하지 않고 null 반환)
+     */
+    public boolean checkNotModified(ServletWebRequest request, String etag) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag);
+    }
+
+    private static String tag(String body) {
+        return "W/\"" + body + "\"";
+    }
+
+    private static String team(Long teamId) {
+        return "team:" + teamId;
+    }
+
+    private static String assignment(Long assignmentId) {
+        return "assignment:" + assignmentId;
+    }
+
+    private static String viewer(Long teamId, UserSnapshot viewer) {
+        if (viewer == null) {
+            return "guest";
+        }
+        String role = viewer.isManagerOf(teamId) ? "m" : viewer.isMemberOf(teamId) ? "u" : "x";
+        return "u" + viewer.id() + role;
+    }
+
+    /** 범위별 현재 버전 (행이 없으면 0) */
+    private Map<String, Long> versions(String... scopes) {
+        Map<String, Long> versions = new HashMap<>();
+        for (String scope : scopes) {
+            versions.put(scope, 0L);
+        }
+        String placeholders = String.join(", ", Collections.nCopies(scopes.length, "?"));
+        jdbcTemplate.query("SELECT scope, version FROM content_versions WHERE scope IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> versions.put(rs.getString(1), rs.getLong(2)),
+                (Object[]) scopes);
+        return versions;
+    }
+
+    private void increment(String scope) {
+        if (jdbcTemplate.update("UPDATE content_versions SET version = version + 1 WHERE scope = ?", scope) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO content_versions (scope, version) VALUES (?, 1)", scope);
+        } catch (DuplicateKeyException e) {
+            // 동시에 처음 올린 쪽이 행을 만듦
+            jdbcTemplate.update("UPDATE content_versions SET version = version + 1 WHERE scope = ?", scope);
+        }
+    }
+}
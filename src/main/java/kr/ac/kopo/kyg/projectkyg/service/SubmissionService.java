@@ -0,0 +1,173 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.domain.Assignment;
+import kr.ac.kopo.kyg.projectkyg.domain.Submission;
+import kr.ac.kopo.kyg.projectkyg.event.SubmissionAcceptedEvent;
+import kr.ac.kopo.kyg.projectkyg.monitoring.StorageMetrics;
+import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.SubmissionRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import kr.ac.kopo.kyg.projectkyg.storage.StagedContent;
+import kr.ac.kopo.kyg.projectkyg.storage.StoredBlobRegistry;
+import kr.ac.kopo.kyg.projectkyg.storage.StoredContent;
+import kr.ac.kopo.kyg.projectkyg.storage.SubmissionStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 과제 제출 처리.
+ * <p>
+ * 파일 내용은 DB 트랜잭션 밖에서 저장소의 임시 파일로 스트리밍하고(커넥션을 잡지 않음),
+ * 저장이 끝난 뒤 짧은 트랜잭션으로 파일 참조(내용이 같으면 기존 파일 공유)와 Submission 메타데이터를 저장합니다.
+ */
+@Service
+public class SubmissionService {
+
+    /** 지연 제출 시 파일명 앞에 붙는 접두사 */
+    public static final String LATE_PREFIX = "[지연]";
+
+    private final AssignmentRepository assignmentRepository;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionStorage submissionStorage;
+    private final StoredBlobRegistry blobRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final StorageMetrics storageMetrics;
+    private final UserTeamStatusService userTeamStatusService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxUploadBytes;
+
+    public SubmissionService(AssignmentRepository assignmentRepository,
+                             UserRepository userRepository,
+                             UserCache userCache,
+                             SubmissionRepository submissionRepository,
+                             SubmissionStorage submissionStorage,
+                             StoredBlobRegistry blobRegistry,
+                             TransactionTemplate transactionTemplate,
+                             StorageMetrics storageMetrics,
+                             UserTeamStatusService userTeamStatusService,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${submission.upload.max-size:100MB}") DataSize maxUploadSize) {
+        this.assignmentRepository = assignmentRepository;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.submissionRepository = submissionRepository;
+        this.submissionStorage = submissionStorage;
+        this.blobRegistry = blobRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.storageMetrics = storageMetrics;
+        this.userTeamStatusService = userTeamStatusService;
+        this.eventPublisher = eventPublisher;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+    }
+
+    /** 제출 결과 (재제출 여부 포함) */
+    public record SubmitResult(Submission submission, boolean resubmitted) {
+    }
+
+    /** 허용되는 업로드 최대 크기 (byte) */
+    public long getMaxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    /**
+     * 과제를 제출(또는 재제출)합니다.
+     *
+     * @param startedAt 업로드를 시작한 시각. 마감일과 비교해 지연 제출 여부를 판단합니다.
+     */
+    public SubmitResult submit(Long assignmentId,
+                               String username,
+                               InputStream content,
+                               String originalFilename,
+                               String contentType,
+                               LocalDateTime startedAt) throws IOException {
+        Assignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new IllegalStateException("과제를 찾을 수 없습니다."));
+
+        UserSnapshot user = userCache.require(username);
+
+        // 1. 마감일 체크 로직 (업로드 시작 시각 기준)
+        boolean isLate = startedAt.isAfter(assignment.getDeadline());
+
+        // 지연 제출일 경우 파일명 앞에 접두사 추가
+        String fileName = isLate ? LATE_PREFIX + originalFilename : originalFilename;
+
+        // 2. 파일 내용은 트랜잭션 밖에서 고정 크기 버퍼로 임시 저장 (힙 사용량이 파일 크기와 무관, SHA-256 계산)
+        //    소스 코드/문서처럼 압축이 잘 되는 내용은 저장소가 압축해서 저장
+        long storeStartedAt = System.nanoTime();
+        StagedContent staged = submissionStorage.stage(content, maxUploadBytes, contentType);
+        storageMetrics.recordUpload(staged.size(), staged.storedSize(), System.nanoTime() - storeStartedAt);
+
+        TransactionCallback<SubmitResult> persist = status -> {
+            // 같은 내용의 파일이 이미 있으면 그 파일을 공유 (참조 +1)
+            StoredContent stored;
+            try {
+                stored = blobRegistry.acquire(staged);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            // 3. 기존 제출물 확인 및 업데이트 (재제출 처리)
+            Optional<Submission> existing = submissionRepository.findByAssignmentIdAndUserId(assignmentId, user.id());
+
+            Submission submission = existing.orElseGet(() -> {
+                Submission created = new Submission();
+                // 사용자는 캐시된 ID 로 참조만 연결 (추가 조회 없음)
+                created.setUser(userRepository.getReferenceById(user.id()));
+                created.setAssignment(assignment);
+                return created;
+            });
+            // 재제출: 이전 파일 참조 -1 (참조가 없어지면 정리 작업이 삭제)
+            existing.ifPresent(previous -> blobRegistry.release(previous.getStorageKey()));
+
+            // 4. Submission 엔티티 업데이트/저장
+            submission.setFileName(fileName); // 지연 제출 접두사가 붙은 파일명 저장
+            submission.setStorageKey(stored.storageKey());
+            submission.setFileSize(stored.size());
+            submission.setStoredSize(stored.storedSize());
+            submission.setContentEncoding(stored.encoding());
+            submission.setChecksum(stored.checksum());
+            submission.setContentType(contentType);
+            submission.setSubmittedAt(LocalDateTime.now()); // 현재 시간을 제출 시간으로 저장
+            submission.setLate(isLate);
+
+            Submission saved = submissionRepository.save(submission);
+            if (existing.isEmpty()) {
+                // 첫 제출이면 미제출 과제 수가 바뀜 (재제출은 변화 없음)
+                userTeamStatusService.refreshMember(assignment.getTeam().getId(), user.id());
+            }
+            // 커밋된 뒤 과제 화면을 보고 있는 본인/팀장에게 알림
+            eventPublisher.publishEvent(new SubmissionAcceptedEvent(assignment.getTeam().getId(), assignmentId,
+                    user.id(), fileName, isLate, existing.isPresent(), saved.getSubmittedAt()));
+            return new SubmitResult(saved, existing.isPresent());
+        };
+
+        try {
+            try {
+                return transactionTemplate.execute(persist);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 과제를 동시에 처음 제출한 경우: 유니크 제약(uk_submissions_assignment_user)에 걸린 쪽은
+                // 먼저 커밋된 행을 재제출로 갱신하도록 한 번 더 시도
+                return transactionTemplate.execute(persist);
+            }
+        } catch (RuntimeException e) {
+            // DB 저장이 실패하면 공개했을 수 있는 파일을 정리 대상으로 등록 (다른 제출물이 참조 중이면 유지)
+            blobRegistry.releaseUnreferenced(staged);
+            throw e;
+        } finally {
+            submissionStorage.discard(staged);
+        }
+    }
+}
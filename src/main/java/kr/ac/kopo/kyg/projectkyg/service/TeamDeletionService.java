@@ -0,0 +1,132 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.SubmissionRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import kr.ac.kopo.kyg.projectkyg.storage.StoredBlobRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * 팀 삭제 (팀장 해체, 관리자 삭제, 고아 팀 정리).
+ * <p>
+ * 엔티티를 하나씩 읽어 cascade 로 지우지 않고, 팀 batchSize 개 단위로
+ * 제출물 → 팀 가입 관계 → 과제 → 팀 순서의 일괄 DELETE 몇 개를 한 트랜잭션에서 실행합니다.
+ * 제출 파일은 같은 트랜잭션에서 참조 수를 줄이고(공유 파일), 영향을 받은 사용자의 캐시와 화면 ETag 도 무효화합니다.
+ */
+@Service
+public class TeamDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamDeletionService.class);
+
+    /** 팀장이 삭제되어 managerName 이 이 값이 된 팀이 정리 대상 */
+    public static final String ORPHAN_MANAGER_NAME = "NULL";
+
+    private final TeamRepository teamRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final UserRepository userRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StoredBlobRegistry blobRegistry;
+    private final UserCache userCache;
+    private final ContentVersions contentVersions;
+    private final int batchSize;
+
+    public TeamDeletionService(TeamRepository teamRepository,
+                               AssignmentRepository assignmentRepository,
+                               SubmissionRepository submissionRepository,
+                               UserRepository userRepository,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               StoredBlobRegistry blobRegistry,
+                               UserCache userCache,
+                               ContentVersions contentVersions,
+                               @Value("${team.delete.batch-size:100}") int batchSize) {
+        this.teamRepository = teamRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.submissionRepository = submissionRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.blobRegistry = blobRegistry;
+        this.userCache = userCache;
+        this.contentVersions = contentVersions;
+        this.batchSize = batchSize;
+    }
+
+    /** 팀 한 개 삭제 */
+    public void deleteTeam(Long teamId) {
+        deleteTeams(List.of(teamId));
+    }
+
+    /** 여러 팀 삭제 (batchSize 개씩 별도 트랜잭션) */
+    public int deleteTeams(List<Long> teamIds) {
+        int deleted = 0;
+        for (int from = 0; from < teamIds.size(); from += batchSize) {
+            deleted += deleteBatch(teamIds.subList(from, Math.min(teamIds.size(), from + batchSize)));
+        }
+        return deleted;
+    }
+
+    /** 정리 대상 고아 팀 수 */
+    public long countOrphanTeams() {
+        return teamRepository.countByManagerName(ORPHAN_MANAGER_NAME);
+    }
+
+    /**
+     * 팀장이 없는 고아 팀을 모두 삭제합니다.
+     *
+     * @param onBatch 배치가 커밋될 때마다 지금까지 삭제한 팀 수로 호출 (예외를 던지면 다음 배치부터 중단)
+     */
+    public int deleteOrphanTeams(IntConsumer onBatch) {
+        int deleted = 0;
+        while (true) {
+            List<Long> teamIds = teamRepository.findIdsByManagerName(ORPHAN_MANAGER_NAME, PageRequest.ofSize(batchSize));
+            if (teamIds.isEmpty()) {
+                break;
+            }
+            deleted += deleteBatch(teamIds);
+            onBatch.accept(deleted);
+        }
+        if (deleted > 0) {
+            log.info("고아 팀 {}개를 정리했습니다.", deleted);
+        }
+        return deleted;
+    }
+
+    private int deleteBatch(List<Long> teamIds) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            // 1. 참조를 줄일 파일 키와 캐시를 무효화할 사용자 (삭제 전에 수집)
+            List<String> storageKeys = submissionRepository.findStorageKeysByTeamIds(teamIds);
+            List<String> usernames = new ArrayList<>(userRepository.findUsernamesByTeamIds(teamIds));
+            usernames.addAll(teamRepository.findManagerUsernamesByIds(teamIds));
+
+            // 2. 자식 테이블부터 일괄 삭제
+            submissionRepository.deleteByTeamIds(teamIds);
+            jdbcTemplate.update("DELETE FROM user_team_status WHERE team_id IN (:teamIds)", Map.of("teamIds", teamIds));
+            jdbcTemplate.update("DELETE FROM user_team WHERE team_id IN (:teamIds)", Map.of("teamIds", teamIds));
+            assignmentRepository.deleteByTeamIds(teamIds);
+            int teams = teamRepository.deleteByIds(teamIds);
+
+            // 3. 공유 파일 참조 감소 (참조가 없어진 파일은 정리 작업이 삭제), 캐시는 커밋된 뒤에 정리
+            blobRegistry.release(storageKeys);
+            userCache.evict(usernames.toArray(String[]::new));
+            // 팀 가입 화면과 (팀장 화면 등) 여러 팀에 걸친 화면의 ETag 무효화
+            contentVersions.touchAll();
+            return teams;
+        });
+        return deleted != null ? deleted : 0;
+    }
+}
@@ -0,0 +1,140 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.UserCacheVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * username 으로 조회하는 사용자 캐시 (크기 제한 + TTL).
+ * <p>
+ * 컨트롤러의 로그인 사용자 조회(가입 팀/팀장 여부 포함)가 이 캐시를 거치며, 로그인(UserDetailsService)은 거치지 않습니다.
+ * 사용자 정보나 팀 가입/팀장 관계가 바뀌는 곳(회원가입, 관리자 수정/삭제, 팀 생성/가입/탈퇴/해체)에서는 {@link #evict(String...)}로
+ * users.cache_version 을 같은 트랜잭션에서 올리고, 조회할 때마다 캐시된 항목의 버전을 DB 와 비교하여 다르면 다시 읽습니다.
+ * 따라서 다른 인스턴스에서 바뀐 권한/가입 관계도 커밋 직후부터 반영됩니다. (팀 목록 조회 대신 인덱스 조회 한 번)
+ * 적중/미스 통계는 cache.gets{cache="users"} 등의 메트릭으로 노출됩니다.
+ */
+@Service
+public class UserCache {
+
+    public static final String CACHE_NAME = "users";
+
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserCache(UserRepository userRepository,
+                     TeamRepository teamRepository,
+                     NamedParameterJdbcTemplate jdbcTemplate,
+                     MeterRegistry meterRegistry,
+                     @Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl:PT10M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** 캐시된 항목의 버전이 DB 와 같으면 그대로, 아니면 DB 에서 다시 읽어 적재합니다. (없는 사용자는 캐시하지 않음) */
+    public Optional<UserSnapshot> find(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(validate(username, userRepository.findCacheVersionByUsername(username).orElse(null)));
+    }
+
+    /** 여러 사용자를 한 번의 버전 조회로 확인합니다. (없는 사용자는 결과에서 빠짐) */
+    public Map<String, UserSnapshot> findAll(Collection<String> usernames) {
+        Map<String, UserSnapshot> result = new HashMap<>();
+        if (usernames.isEmpty()) {
+            return result;
+        }
+        for (UserCacheVersion version : userRepository.findCacheVersionsByUsernames(usernames)) {
+            UserSnapshot user = validate(version.username(), version.cacheVersion());
+            if (user != null) {
+                result.put(user.username(), user);
+            }
+        }
+        return result;
+    }
+
+    private UserSnapshot validate(String username, Long version) {
+        if (version == null) {
+            cache.invalidate(username);
+            return null;
+        }
+        UserSnapshot cached = cache.getIfPresent(username);
+        if (cached != null && cached.cacheVersion() == version) {
+            return cached;
+        }
+        UserSnapshot loaded = load(username);
+        if (loaded == null) {
+            cache.invalidate(username);
+        } else {
+            cache.put(username, loaded);
+        }
+        return loaded;
+    }
+
+    private UserSnapshot load(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> UserSnapshot.from(user,
+                        userRepository.findTeamIdsByUserId(user.getId()),
+                        teamRepository.findIdsByManagerUsername(username)))
+                .orElse(null);
+    }
+
+    /** 로그인 사용자 조회 (없으면 예외) */
+    public UserSnapshot require(String username) {
+        return find(username)
+                .orElseThrow(() -> new IllegalStateException("로그인된 사용자를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 캐시를 무효화합니다.
+     * users.cache_version 을 올려 모든 인스턴스의 캐시된 항목을 무효로 만들므로, 변경과 같은 트랜잭션에서 호출해야 합니다.
+     * 이 인스턴스의 항목은 바로 지우고, 트랜잭션 안이면 커밋 직후 한 번 더 지워 메모리도 정리합니다.
+     */
+    public void evict(String... usernames) {
+        List<String> targets = Arrays.stream(usernames).filter(Objects::nonNull).distinct().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE users SET cache_version = cache_version + 1 WHERE username IN (:usernames)",
+                Map.of("usernames", targets));
+        for (String username : targets) {
+            cache.invalidate(username);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(targets);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.domain.User;
+import kr.ac.kopo.kyg.projectkyg.repository.SubmissionRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import kr.ac.kopo.kyg.projectkyg.storage.StoredBlobRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 사용자 삭제.
+ * <p>
+ * 사용자가 팀장인 팀은 고아 팀("NULL")으로 바꾸고, 팀 가입 관계와 제출물을 일괄 삭제한 뒤 사용자를 지웁니다.
+ * 제출 파일은 참조 수만 줄이고, 참조가 없어진 파일은 {@code StoredBlobRegistry} 정리 작업이 삭제합니다.
+ */
+@Service
+public class UserDeletionService {
+
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final SubmissionRepository submissionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StoredBlobRegistry blobRegistry;
+    private final UserCache userCache;
+    private final ContentVersions contentVersions;
+
+    public UserDeletionService(UserRepository userRepository,
+                               TeamRepository teamRepository,
+                               SubmissionRepository submissionRepository,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               StoredBlobRegistry blobRegistry,
+                               UserCache userCache,
+                               ContentVersions contentVersions) {
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.submissionRepository = submissionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.blobRegistry = blobRegistry;
+        this.userCache = userCache;
+        this.contentVersions = contentVersions;
+    }
+
+    /**
+     * @return 삭제한 사용자의 username
+     */
+    public String deleteUser(Long userId) {
+        return transactionTemplate.execute(status -> {
+            String username = userRepository.findById(userId)
+                    .map(User::getUsername)
+                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+
+            // 1. 🟢 해당 유저가 팀장인 모든 팀의 manager 정보를 'NULL' 문자열로 초기화
+            teamRepository.orphanTeamsManagedBy(username);
+
+            // 2. 제출물과 팀 가입 관계 일괄 삭제 (공유 파일은 참조 감소, 참조가 없어지면 정리 작업이 삭제)
+            List<String> storageKeys = submissionRepository.findStorageKeysByUserId(userId);
+            submissionRepository.deleteByUserId(userId);
+            jdbcTemplate.update("DELETE FROM user_team_status WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM user_team WHERE user_id = ?", userId);
+
+            // 3. 유저 삭제
+            userRepository.deleteAllByIdInBatch(List.of(userId));
+
+            blobRegistry.release(storageKeys);
+            userCache.evict(username);
+            // 이 사용자의 제출물/팀장 이름이 보이던 모든 화면
+            contentVersions.touchAll();
+            return username;
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.domain.Role;
+import kr.ac.kopo.kyg.projectkyg.domain.User;
+
+import java.util.Set;
+
+/**
+ * 캐시에 보관하는 사용자 정보 (불변).
+ * 영속성 컨텍스트와 무관하므로 요청/스레드 사이에서 안전하게 공유할 수 있습니다.
+ * 비밀번호는 보관하지 않습니다. (로그인은 매번 DB 에서 확인)
+ *
+ * @param teamIds        가입한 팀 ID
+ * @param managedTeamIds 팀장으로 있는 팀 ID
+ * @param cacheVersion   읽을 때의 users.cache_version
+ */
+public record UserSnapshot(Long id, String username, String name, Role role,
+                           Set<Long> teamIds, Set<Long> managedTeamIds, long cacheVersion) {
+
+    public UserSnapshot {
+        teamIds = Set.copyOf(teamIds);
+        managedTeamIds = Set.copyOf(managedTeamIds);
+    }
+
+    public static UserSnapshot from(User user, Set<Long> teamIds, Set<Long> managedTeamIds) {
+        return new UserSnapshot(user.getId(), user.getUsername(), user.getName(), user.getRole(),
+                teamIds, managedTeamIds, user.getCacheVersion());
+    }
+
+    /** 팀 가입 여부 */
+    public boolean isMemberOf(Long teamId) {
+        return teamIds.contains(teamId);
+    }
+
+    /** 팀장 여부 (team.getManagerUsername() 비교를 대신함) */
+    public boolean isManagerOf(Long teamId) {
+        return managedTeamIds.contains(teamId);
+    }
+}
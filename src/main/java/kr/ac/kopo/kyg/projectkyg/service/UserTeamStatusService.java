@@ -0,0 +1,78 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메인 페이지의 "미제출 과제 있음" 표시를 위한 user_team_status 관리.
+ * <p>
+ * 변경이 생긴 팀(또는 팀원) 행만 지우고 INSERT ... SELECT 로 다시 계산합니다.
+ * 호출한 쪽의 트랜잭션이 있으면 그 안에서(같은 커밋으로) 갱신되고, 없으면 새 트랜잭션으로 갱신됩니다.
+ * 갱신은 JDBC 로 실행하므로, 아직 flush 되지 않은 제출/팀 가입 변경이
+ * 계산에 반영되도록 먼저 flush 합니다.
+ * <ul>
+ *   <li>제출(첫 제출), 팀 가입/탈퇴/생성 → {@link #refreshMember}</li>
+ *   <li>과제 추가/삭제, 과제 마감 시각 도달({@link AssignmentDeadlineScheduler}) → {@link #refreshTeam}</li>
+ * </ul>
+ */
+@Service
+public class UserTeamStatusService {
+
+    /** 팀원(ut) 한 명의 마감 전 미제출 과제 수 */
+    private static final String OPEN_UNSUBMITTED = "(SELECT COUNT(*) FROM assignments a WHERE a.team_id = ut.team_id AND a.deadline > :now "
+            + "AND NOT EXISTS (SELECT 1 FROM submissions s WHERE s.assignment_id = a.id AND s.user_id = ut.user_id))";
+
+    private static final String INSERT_SELECT = "INSERT INTO user_team_status (user_id, team_id, open_unsubmitted, refreshed_at) "
+            + "SELECT ut.user_id, ut.team_id, " + OPEN_UNSUBMITTED + ", :now FROM user_team ut ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserTeamStatusService(NamedParameterJdbcTemplate jdbcTemplate,
+                                 EntityManager entityManager,
+                                 TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /** 팀의 모든 팀원 행을 다시 계산합니다. */
+    public void refreshTeam(Long teamId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("teamId", teamId)
+                .addValue("now", LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.flush();
+            jdbcTemplate.update("DELETE FROM user_team_status WHERE team_id = :teamId", params);
+            jdbcTemplate.update(INSERT_SELECT + "WHERE ut.team_id = :teamId", params);
+        });
+    }
+
+    /** 팀원 한 명의 행을 다시 계산합니다. (탈퇴했으면 행만 삭제) */
+    public void refreshMember(Long teamId, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("teamId", teamId)
+                .addValue("userId", userId)
+                .addValue("now", LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.flush();
+            jdbcTemplate.update("DELETE FROM user_team_status WHERE team_id = :teamId AND user_id = :userId", params);
+            jdbcTemplate.update(INSERT_SELECT + "WHERE ut.team_id = :teamId AND ut.user_id = :userId", params);
+        });
+    }
+
+    /** 전체 재계산 (시작 시, 중지된 동안 지난 마감 반영) */
+    public int rebuildAll() {
+        MapSqlParameterSource params = new MapSqlParameterSource("now", LocalDateTime.now());
+        Integer rows = transactionTemplate.execute(status -> {
+            entityManager.flush();
+            jdbcTemplate.update("DELETE FROM user_team_status", params);
+            return jdbcTemplate.update(INSERT_SELECT, params);
+        });
+        return rows != null ? rows : 0;
+    }
+}
@@ -0,0 +1,112 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 보관 계층에서 꺼낸 파일의 읽기 캐시.
+ * <p>
+ * 세그먼트에서 복원한 파일을 로컬 디렉터리에 두고 최근에 읽은 순서(LRU)로 전체 크기를 제한합니다.
+ * 파일은 잠금 안에서 연 채널로만 내주므로, 읽는 도중 다른 요청의 축출로 파일이 삭제되어도
+ * 이미 연 채널은 끝까지 읽을 수 있습니다. (경로를 내주면 sendfile 이 열기 전에 삭제될 수 있음)
+ * 캐시 목록은 메모리에만 있으므로 시작할 때 디렉터리를 비웁니다.
+ */
+@Component
+public class ArchiveReadCache {
+
+    /** 세그먼트에서 target 으로 파일을 복원하는 방법 */
+    @FunctionalInterface
+    public interface Loader {
+        void copyTo(Path target) throws IOException;
+    }
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final Path dir;
+    private final long maxBytes;
+
+    // 키 → 파일 크기 (접근 순서)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ArchiveReadCache(@Value("${submission.storage.root:./data/submissions}") String root,
+                            @Value("${submission.storage.archive.cache-size:1GB}") DataSize cacheSize) throws IOException {
+        this.dir = Path.of(root).toAbsolutePath().normalize().resolve("archive-cache");
+        this.maxBytes = cacheSize.toBytes();
+        FileSystemUtils.deleteRecursively(this.dir);
+        Files.createDirectories(this.dir);
+    }
+
+    /** 캐시에 있으면 그 파일을, 없으면 loader 로 복원한 뒤 그 파일을 읽기 채널로 엽니다. */
+    public FileChannel open(String storageKey, boolean gzip, Loader loader) throws IOException {
+        Path path = dir.resolve(gzip ? storageKey + GZIP_SUFFIX : storageKey);
+        synchronized (this) {
+            if (entries.get(storageKey) != null) {
+                try {
+                    return FileChannel.open(path, StandardOpenOption.READ);
+                } catch (NoSuchFileException e) {
+                    // 캐시 밖에서 삭제됨: 다시 복원
+                }
+            }
+        }
+
+        // 복원은 잠금 밖에서 (같은 키를 동시에 복원해도 rename 으로 한 벌만 남음)
+        Path tmp = Files.createTempFile(dir, storageKey, ".tmp");
+        try {
+            loader.copyTo(tmp);
+            long size = Files.size(tmp);
+            synchronized (this) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                Long previous = entries.put(storageKey, size);
+                totalBytes += size - (previous != null ? previous : 0);
+                evictOverflow(storageKey);
+                return channel;
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    /** 캐시에서 제거합니다. (파일이 삭제될 때) */
+    public synchronized void evict(String storageKey) throws IOException {
+        Long size = entries.remove(storageKey);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        deleteFiles(storageKey);
+    }
+
+    // 방금 넣은 파일은 남기고 오래된 것부터 삭제
+    private void evictOverflow(String keep) throws IOException {
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            it.remove();
+            totalBytes -= eldest.getValue();
+            deleteFiles(eldest.getKey());
+        }
+    }
+
+    private void deleteFiles(String storageKey) throws IOException {
+        Files.deleteIfExists(dir.resolve(storageKey));
+        Files.deleteIfExists(dir.resolve(storageKey + GZIP_SUFFIX));
+    }
+}
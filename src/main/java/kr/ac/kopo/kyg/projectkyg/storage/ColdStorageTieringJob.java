@@ -0,0 +1,273 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import kr.ac.kopo.kyg.projectkyg.job.SchedulerLeases;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 마감이 오래 지난 과제의 제출 파일을 보관 계층(세그먼트 파일)으로 옮기는 정기 작업.
+ * <p>
+ * 1) 참조하는 제출물이 모두 마감 후 {@code submission.storage.archive.after} 가 지난 과제의 것인 파일을 찾아
+ *    hot 저장소의 바이트를 그대로 세그먼트에 이어 붙이고,
+ * 2) 세그먼트를 디스크에 반영한 뒤 파일마다 stored_blobs 행을 잠근 채 다시 확인하여 색인(archived_blobs)을 남기고,
+ * 3) 커밋 후 hot 파일을 지웁니다. 색인이 먼저 커밋되므로 어느 순간에도 파일은 한 계층 이상에서 읽을 수 있습니다.
+ * 마지막으로 모든 항목이 삭제된 세그먼트를 정리합니다.
+ * 여러 인스턴스가 같은 DB 를 쓰므로 실행권({@link SchedulerLeases})을 얻은 한 곳에서만 실행하고, 배치마다 연장합니다.
+ */
+@Component
+public class ColdStorageTieringJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ColdStorageTieringJob.class);
+
+    private static final String LEASE = "cold-storage-tiering";
+
+    // 아직 보관되지 않았고, 오래된 과제의 제출물만 참조하는 파일
+    private static final String CANDIDATES =
+            "SELECT b.storage_key, b.content_encoding FROM stored_blobs b "
+                    + "WHERE b.storage_key > ? AND b.ref_count > 0 "
+                    + "AND NOT EXISTS (SELECT 1 FROM archived_blobs ab WHERE ab.storage_key = b.storage_key) "
+                    + "AND EXISTS (SELECT 1 FROM submissions s JOIN assignments a ON a.id = s.assignment_id "
+                    + "WHERE s.storage_key = b.storage_key AND a.deadline < ?) "
+                    + "AND NOT EXISTS (SELECT 1 FROM submissions s JOIN assignments a ON a.id = s.assignment_id "
+                    + "WHERE s.storage_key = b.storage_key AND a.deadline >= ?) "
+                    + "ORDER BY b.storage_key LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FileSystemSubmissionStorage hot;
+    private final SegmentArchive archive;
+    private final SchedulerLeases leases;
+    private final boolean enabled;
+    private final Duration archiveAfter;
+    private final long segmentBytes;
+    private final int batchSize;
+    private final Duration leaseTtl;
+
+    public ColdStorageTieringJob(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 FileSystemSubmissionStorage hot,
+                                 SegmentArchive archive,
+                                 SchedulerLeases leases,
+                                 @Value("${submission.storage.archive.enabled:true}") boolean enabled,
+                                 @Value("${submission.storage.archive.after:P180D}") Duration archiveAfter,
+                                 @Value("${submission.storage.archive.segment-size:256MB}") DataSize segmentSize,
+                                 @Value("${submission.storage.archive.batch-size:100}") int batchSize,
+                                 @Value("${submission.storage.archive.lease-ttl:PT30M}") Duration leaseTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hot = hot;
+        this.archive = archive;
+        this.leases = leases;
+        this.enabled = enabled;
+        this.archiveAfter = archiveAfter;
+        this.segmentBytes = segmentSize.toBytes();
+        this.batchSize = batchSize;
+        this.leaseTtl = leaseTtl;
+    }
+
+    private record Candidate(String storageKey, String encoding) {
+    }
+
+    private record SegmentRow(long id, String fileName) {
+    }
+
+    @Scheduled(cron = "${submission.storage.archive.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int archived = run();
+            if (archived > 0) {
+                log.info("제출 파일 {}개를 보관 계층으로 옮겼습니다.", archived);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("보관 계층 이동 실패", e);
+        }
+    }
+
+    /** @return 보관 계층으로 옮긴 파일 수 (다른 인스턴스에서 실행 중이면 0) */
+    public int run() throws IOException {
+        Optional<String> lease = leases.tryAcquire(LEASE, leaseTtl);
+        if (lease.isEmpty()) {
+            log.info("다른 인스턴스에서 보관 계층 이동이 실행 중입니다.");
+            return 0;
+        }
+        try {
+            return archiveAll(lease.get());
+        } finally {
+            leases.release(LEASE, lease.get());
+        }
+    }
+
+    private int archiveAll(String lease) throws IOException {
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveAfter);
+        int archived = 0;
+        String lastKey = "";
+
+        SegmentArchive.SegmentWriter writer = null;
+        try {
+            while (true) {
+                renewLease(lease);
+                List<Candidate> candidates = jdbcTemplate.query(CANDIDATES,
+                        (rs, rowNum) -> new Candidate(rs.getString(1), rs.getString(2)),
+                        lastKey, cutoff, cutoff, batchSize);
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                lastKey = candidates.get(candidates.size() - 1).storageKey();
+
+                for (Candidate candidate : candidates) {
+                    if (writer == null) {
+                        writer = archive.create();
+                    }
+                    if (!append(writer, candidate)) {
+                        continue;
+                    }
+                    if (writer.size() >= segmentBytes) {
+                        archived += seal(writer, cutoff);
+                        writer = null;
+                    }
+                }
+            }
+            if (writer != null) {
+                archived += seal(writer, cutoff);
+                writer = null;
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+
+        renewLease(lease);
+        dropEmptySegments();
+        return archived;
+    }
+
+    private void renewLease(String lease) {
+        if (!leases.renew(LEASE, lease, leaseTtl)) {
+            throw new IllegalStateException("보관 계층 이동 실행권이 만료되어 중단합니다.");
+        }
+    }
+
+    private boolean append(SegmentArchive.SegmentWriter writer, Candidate candidate) throws IOException {
+        try (InputStream in = hot.openEncoded(candidate.storageKey())) {
+            writer.append(candidate.storageKey(), candidate.encoding(), in);
+            return true;
+        } catch (NoSuchFileException e) {
+            // 그 사이 정리되었거나 hot 에 없는 파일
+            log.warn("보관할 제출 파일이 없습니다: {}", candidate.storageKey());
+            return false;
+        }
+    }
+
+    /** 세그먼트를 공개하고 항목별로 색인을 남긴 뒤 hot 파일을 지웁니다. */
+    private int seal(SegmentArchive.SegmentWriter writer, LocalDateTime cutoff) throws IOException {
+        List<SegmentArchive.Entry> entries;
+        try (writer) {
+            entries = writer.finish();
+        }
+        if (entries.isEmpty()) {
+            archive.delete(writer.fileName());
+            return 0;
+        }
+
+        long segmentId = insertSegment(writer.fileName(), entries);
+        int archived = 0;
+        for (SegmentArchive.Entry entry : entries) {
+            Boolean indexed = transactionTemplate.execute(status -> index(segmentId, entry, cutoff));
+            if (!Boolean.TRUE.equals(indexed)) {
+                continue;
+            }
+            archived++;
+            try {
+                hot.delete(entry.storageKey());
+            } catch (IOException e) {
+                // 색인은 이미 남았으므로 hot 에 남은 파일은 그대로 읽혀도 무방
+                log.warn("보관된 hot 파일 삭제 실패: {}", entry.storageKey(), e);
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * stored_blobs 행을 잠그고(acquire/정리 작업과 직렬화) 아직 보관해도 되는지 다시 확인한 뒤 색인을 남깁니다.
+     */
+    private boolean index(long segmentId, SegmentArchive.Entry entry, LocalDateTime cutoff) {
+        List<Integer> refCount = jdbcTemplate.queryForList(
+                "SELECT ref_count FROM stored_blobs WHERE storage_key = ? FOR UPDATE", Integer.class, entry.storageKey());
+        if (refCount.isEmpty() || refCount.get(0) == 0) {
+            return false;
+        }
+        Integer recent = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM submissions s JOIN assignments a ON a.id = s.assignment_id "
+                        + "WHERE s.storage_key = ? AND a.deadline >= ?",
+                Integer.class, entry.storageKey(), cutoff);
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM archived_blobs WHERE storage_key = ?", Integer.class, entry.storageKey());
+        if (Objects.requireNonNullElse(recent, 0) > 0 || Objects.requireNonNullElse(archived, 0) > 0) {
+            return false;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO archived_blobs (storage_key, segment_id, entry_offset, entry_length, content_encoding, archived_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                entry.storageKey(), segmentId, entry.offset(), entry.length(), entry.encoding(), LocalDateTime.now());
+        return true;
+    }
+
+    private long insertSegment(String fileName, List<SegmentArchive.Entry> entries) {
+        long size = entries.stream().mapToLong(SegmentArchive.Entry::length).sum();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO archive_segments (file_name, size, entry_count, created_at) VALUES (?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, fileName);
+            ps.setLong(2, size);
+            ps.setInt(3, entries.size());
+            ps.setObject(4, LocalDateTime.now());
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey(), "세그먼트 ID 를 받지 못했습니다.").longValue();
+    }
+
+    /** 항목이 모두 삭제된(참조 0 으로 정리된) 세그먼트 삭제 */
+    private void dropEmptySegments() {
+        List<SegmentRow> empty = jdbcTemplate.query(
+                "SELECT s.id, s.file_name FROM archive_segments s "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM archived_blobs b WHERE b.segment_id = s.id)",
+                (rs, rowNum) -> new SegmentRow(rs.getLong(1), rs.getString(2)));
+        for (SegmentRow segment : empty) {
+            jdbcTemplate.update("DELETE FROM archive_segments WHERE id = ?", segment.id());
+            try {
+                archive.delete(segment.fileName());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (!empty.isEmpty()) {
+            log.info("비어 있는 보관 세그먼트 {}개를 삭제했습니다.", empty.size());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 압축해서 저장할 내용인지 판단합니다. (Content-Type 과 앞부분 매직 넘버)
+ * 이미 압축된 형식(zip, gzip, 이미지, 영상 등)은 다시 압축해도 줄지 않으므로 원본 그대로 저장합니다.
+ */
+final class CompressibleContent {
+
+    /** 판단에 사용하는 앞부분 길이 */
+    static final int SNIFF_LENGTH = 512;
+
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/json", "application/xml", "application/javascript", "application/x-javascript",
+            "application/sql", "application/x-sh", "application/x-python", "application/x-tar",
+            "application/rtf", "application/postscript", "application/x-hwp",
+            "application/msword", "application/vnd.ms-excel", "application/vnd.ms-powerpoint",
+            "image/bmp", "image/svg+xml");
+
+    // 이미 압축된 형식의 시작 바이트
+    private static final byte[][] COMPRESSED_MAGIC = {
+            {0x50, 0x4B, 0x03, 0x04},                          // zip (docx, xlsx, pptx, hwpx, jar ...)
+            {0x1F, (byte) 0x8B},                               // gzip
+            {0x37, 0x7A, (byte) 0xBC, (byte) 0xAF},            // 7z
+            {0x52, 0x61, 0x72, 0x21},                          // rar
+            {0x42, 0x5A, 0x68},                                // bzip2
+            {(byte) 0xFD, 0x37, 0x7A, 0x58, 0x5A},             // xz
+            {0x28, (byte) 0xB5, 0x2F, (byte) 0xFD},            // zstd
+            {(byte) 0x89, 0x50, 0x4E, 0x47},                   // png
+            {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF},           // jpeg
+            {0x47, 0x49, 0x46, 0x38},                          // gif
+            {0x25, 0x50, 0x44, 0x46},                          // pdf (내부 스트림이 대부분 압축됨)
+    };
+
+    private CompressibleContent() {
+    }
+
+    static boolean isCompressible(String contentType, byte[] head, int length) {
+        if (hasCompressedMagic(head, length) || isMp4(head, length)) {
+            return false;
+        }
+        String type = baseType(contentType);
+        if (type == null || type.equals("application/octet-stream")) {
+            // 형식을 모르면 텍스트로 보이는 경우만 압축
+            return looksLikeText(head, length);
+        }
+        return type.startsWith("text/")
+                || type.endsWith("+json")
+                || type.endsWith("+xml")
+                || COMPRESSIBLE_TYPES.contains(type);
+    }
+
+    private static String baseType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return null;
+        }
+        int semicolon = contentType.indexOf(';');
+        String type = semicolon >= 0 ? contentType.substring(0, semicolon) : contentType;
+        return type.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasCompressedMagic(byte[] head, int length) {
+        for (byte[] magic : COMPRESSED_MAGIC) {
+            if (startsWith(head, length, magic, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // mp4/mov/m4a: 4번째 바이트부터 "ftyp"
+    private static boolean isMp4(byte[] head, int length) {
+        return startsWith(head, length, new byte[]{0x66, 0x74, 0x79, 0x70}, 4);
+    }
+
+    private static boolean startsWith(byte[] head, int length, byte[] magic, int offset) {
+        if (length < offset + magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[offset + i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // NUL 바이트가 없으면 텍스트(UTF-8 포함)로 간주
+    private static boolean looksLikeText(byte[] head, int length) {
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (head[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,203 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 파일 시스템 기반 제출 파일 저장소 (기본 구현).
+ * <p>
+ * 키 앞 4글자로 2단계 디렉터리를 나누어(ab/cd/abcd...) 한 디렉터리에 파일이 몰리지 않게 하고,
+ * 임시 파일에 끝까지 쓴 뒤 원자적 rename 으로 최종 위치에 옮겨 반쯤 쓰인 파일이 보이지 않게 합니다.
+ * 키는 내용의 SHA-256 이므로 같은 내용은 한 파일만 남습니다. (이전 제출물은 UUID 키)
+ * 소스 코드, 문서처럼 압축이 잘 되는 내용은 gzip 으로 압축해 "키.gz" 로 저장하고, 읽을 때 풀어 줍니다.
+ */
+@Component
+public class FileSystemSubmissionStorage implements SubmissionStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{32,64}");
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final Path root;
+    private final Path tmpDir;
+    private final boolean compressionEnabled;
+
+    public FileSystemSubmissionStorage(@Value("${submission.storage.root:./data/submissions}") String root,
+                                       @Value("${submission.storage.compression.enabled:true}") boolean compressionEnabled) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve("tmp");
+        this.compressionEnabled = compressionEnabled;
+        Files.createDirectories(this.tmpDir);
+    }
+
+    @Override
+    public StagedContent stage(InputStream content, long maxBytes, String contentType) throws IOException {
+        String stagingId = UUID.randomUUID().toString().replace("-", "");
+        Path tmp = stagingPath(stagingId);
+
+        // 앞부분만 보고 압축 여부 결정 (읽은 바이트는 reset 으로 되돌림)
+        BufferedInputStream in = new BufferedInputStream(content, BUFFER_SIZE);
+        boolean compress = false;
+        if (compressionEnabled) {
+            byte[] head = new byte[CompressibleContent.SNIFF_LENGTH];
+            in.mark(head.length);
+            int headLength = in.readNBytes(head, 0, head.length);
+            in.reset();
+            compress = CompressibleContent.isCompressible(contentType, head, headLength);
+        }
+
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             OutputStream out = compress
+                     ? new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)
+                     : Channels.newOutputStream(channel)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (size + read > maxBytes) {
+                    throw new StorageLimitExceededException(maxBytes);
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                size += read;
+            }
+            // gzip 은 끝부분(trailer)까지 쓴 뒤 디스크에 반영
+            if (out instanceof GZIPOutputStream gzip) {
+                gzip.finish();
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        return new StagedContent(stagingId, size, HexFormat.of().formatHex(digest.digest()),
+                Files.size(tmp), compress ? StoredContent.GZIP : null);
+    }
+
+    @Override
+    public StoredContent promote(StagedContent staged) throws IOException {
+        String key = staged.checksum();
+        // 같은 내용이 이미 있으면 그 파일의 인코딩을 따름 (이미 있으면 discard 가 임시 파일을 지움)
+        Optional<StoredContent> existing = existing(key, staged.size());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Path target = stored(key, StoredContent.GZIP.equals(staged.encoding()));
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(stagingPath(staged.stagingId()), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 동시에 같은 내용이 먼저 공개됨
+        }
+        return new StoredContent(key, staged.size(), staged.checksum(), staged.storedSize(), staged.encoding());
+    }
+
+    @Override
+    public void discard(StagedContent staged) throws IOException {
+        Files.deleteIfExists(stagingPath(staged.stagingId()));
+    }
+
+    /** 압축 저장된 파일은 풀어서 읽습니다. */
+    @Override
+    public InputStream open(String storageKey) throws IOException {
+        Path gzip = stored(storageKey, true);
+        if (Files.exists(gzip)) {
+            return new GZIPInputStream(Files.newInputStream(gzip), BUFFER_SIZE);
+        }
+        return Files.newInputStream(resolve(storageKey));
+    }
+
+    @Override
+    public InputStream openEncoded(String storageKey) throws IOException {
+        return Files.newInputStream(actualPath(storageKey));
+    }
+
+    @Override
+    public Optional<Path> localPath(String storageKey) {
+        Path path = actualPath(storageKey);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public boolean exists(String storageKey) {
+        return Files.exists(resolve(storageKey)) || Files.exists(stored(storageKey, true));
+    }
+
+    @Override
+    public void delete(String storageKey) throws IOException {
+        Files.deleteIfExists(resolve(storageKey));
+        Files.deleteIfExists(stored(storageKey, true));
+    }
+
+    /** 이미 공개된 같은 키의 파일 (원본 또는 압축본) */
+    private Optional<StoredContent> existing(String key, long size) throws IOException {
+        Path gzip = stored(key, true);
+        if (Files.exists(gzip)) {
+            return Optional.of(new StoredContent(key, size, key, Files.size(gzip), StoredContent.GZIP));
+        }
+        Path plain = resolve(key);
+        if (Files.exists(plain)) {
+            return Optional.of(new StoredContent(key, size, key));
+        }
+        return Optional.empty();
+    }
+
+    /** 실제로 저장된 파일 경로 (압축본이 있으면 압축본) */
+    private Path actualPath(String storageKey) {
+        Path gzip = stored(storageKey, true);
+        return Files.exists(gzip) ? gzip : resolve(storageKey);
+    }
+
+    private Path stored(String storageKey, boolean gzip) {
+        Path path = resolve(storageKey);
+        return gzip ? path.resolveSibling(path.getFileName() + GZIP_SUFFIX) : path;
+    }
+
+    private Path stagingPath(String stagingId) {
+        if (stagingId == null || !KEY_PATTERN.matcher(stagingId).matches()) {
+            throw new IllegalArgumentException("잘못된 임시 파일 ID입니다: " + stagingId);
+        }
+        return tmpDir.resolve(stagingId + ".tmp");
+    }
+
+    /** 저장 키를 샤딩된 실제 파일 경로로 변환합니다. */
+    Path resolve(String storageKey) {
+        if (storageKey == null || !KEY_PATTERN.matcher(storageKey).matches()) {
+            throw new IllegalArgumentException("잘못된 저장 키입니다: " + storageKey);
+        }
+        return root.resolve(storageKey.substring(0, 2))
+                .resolve(storageKey.substring(2, 4))
+                .resolve(storageKey);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
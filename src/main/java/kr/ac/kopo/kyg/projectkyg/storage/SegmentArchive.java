@@ -0,0 +1,163 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 보관 계층의 세그먼트 파일 저장소.
+ * <p>
+ * 세그먼트는 여러 제출 파일의 저장 바이트를 이어 붙인 파일(seg-...dat)이며, 같은 이름의 .idx 파일에
+ * "키, 오프셋, 길이, 인코딩"을 한 줄씩 남깁니다. 조회에는 DB 색인(archived_blobs)을 사용하고,
+ * .idx 는 DB 없이 세그먼트를 복구할 때를 위한 것입니다.
+ * 임시 파일에 끝까지 쓴 뒤 rename 하므로 반쯤 쓰인 세그먼트는 보이지 않습니다.
+ */
+@Component
+public class SegmentArchive {
+
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("seg-[0-9]{14}-[0-9a-f]{8}\\.dat");
+    private static final DateTimeFormatter NAME_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final Path dir;
+
+    public SegmentArchive(@Value("${submission.storage.archive.dir:./data/archive}") String dir) throws IOException {
+        this.dir = Path.of(dir).toAbsolutePath().normalize();
+        Files.createDirectories(this.dir);
+    }
+
+    /** 세그먼트 안의 항목 하나 */
+    public record Entry(String storageKey, long offset, long length, String encoding) {
+    }
+
+    /** 새 세그먼트 작성을 시작합니다. */
+    public SegmentWriter create() throws IOException {
+        String fileName = "seg-" + LocalDateTime.now().format(NAME_TIME) + "-"
+                + UUID.randomUUID().toString().substring(0, 8) + SEGMENT_SUFFIX;
+        return new SegmentWriter(fileName);
+    }
+
+    /** 세그먼트의 한 구간을 target 파일로 복사합니다. (힙을 거치지 않고 transferTo) */
+    public void copyEntry(String fileName, long offset, long length, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(fileName), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = in.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    throw new IOException("세그먼트가 예상보다 짧습니다: " + fileName);
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /** 세그먼트와 색인 파일을 삭제합니다. (없으면 무시) */
+    public void delete(String fileName) throws IOException {
+        Path segment = resolve(fileName);
+        Files.deleteIfExists(segment);
+        Files.deleteIfExists(indexPath(segment));
+    }
+
+    private Path resolve(String fileName) {
+        if (fileName == null || !FILE_NAME_PATTERN.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("잘못된 세그먼트 파일 이름입니다: " + fileName);
+        }
+        return dir.resolve(fileName);
+    }
+
+    private static Path indexPath(Path segment) {
+        String name = segment.getFileName().toString();
+        return segment.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    /** 세그먼트 하나를 순서대로 채웁니다. finish 하지 않고 닫으면 쓰던 파일을 버립니다. */
+    public final class SegmentWriter implements Closeable {
+
+        private final String fileName;
+        private final Path tmp;
+        private final FileChannel channel;
+        private final List<Entry> entries = new ArrayList<>();
+        private boolean finished;
+
+        private SegmentWriter(String fileName) throws IOException {
+            this.fileName = fileName;
+            this.tmp = dir.resolve(fileName + ".tmp");
+            this.channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+
+        public String fileName() {
+            return fileName;
+        }
+
+        /** 지금까지 쓴 크기 (byte) */
+        public long size() throws IOException {
+            return channel.position();
+        }
+
+        /**
+         * 저장 바이트를 그대로 이어 붙입니다.
+         * 읽다가 실패하면 이 항목의 앞 위치로 되돌려, 이미 쓴 항목에는 영향을 주지 않습니다.
+         */
+        public Entry append(String storageKey, String encoding, InputStream content) throws IOException {
+            long start = channel.position();
+            try {
+                content.transferTo(Channels.newOutputStream(channel));
+            } catch (IOException e) {
+                channel.truncate(start);
+                channel.position(start);
+                throw e;
+            }
+            Entry entry = new Entry(storageKey, start, channel.position() - start, encoding);
+            entries.add(entry);
+            return entry;
+        }
+
+        /** 디스크에 반영하고 색인 파일을 쓴 뒤 최종 이름으로 공개합니다. */
+        public List<Entry> finish() throws IOException {
+            channel.force(true);
+            channel.close();
+
+            Path segment = resolve(fileName);
+            try (BufferedWriter index = Files.newBufferedWriter(indexPath(segment), StandardCharsets.UTF_8)) {
+                for (Entry entry : entries) {
+                    index.write(entry.storageKey() + "\t" + entry.offset() + "\t" + entry.length() + "\t"
+                            + (entry.encoding() != null ? entry.encoding() : "-"));
+                    index.newLine();
+                }
+            }
+            Files.move(tmp, segment, StandardCopyOption.ATOMIC_MOVE);
+            finished = true;
+            return List.copyOf(entries);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                channel.close();
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+/**
+ * 저장소에 임시로 받아 둔(아직 공개되지 않은) 파일.
+ * {@link SubmissionStorage#promote(StagedContent)}로 내용 주소 키에 공개하거나 {@link SubmissionStorage#discard(StagedContent)}로 버립니다.
+ *
+ * @param stagingId  임시 파일 식별자
+ * @param size       원본 파일 크기 (byte)
+ * @param checksum   원본 내용의 SHA-256 (hex), 공개되면 이 값이 저장 키가 됩니다.
+ * @param storedSize 임시 파일에 실제로 쓰인 크기 (압축 시 압축 후 크기)
+ * @param encoding   저장 인코딩 ({@link StoredContent#GZIP}, 원본 그대로면 null)
+ */
+public record StagedContent(String stagingId, long size, String checksum, long storedSize, String encoding) {
+}
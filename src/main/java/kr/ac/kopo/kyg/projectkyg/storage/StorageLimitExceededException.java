@@ -0,0 +1,18 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import java.io.IOException;
+
+/** 저장하려는 파일이 허용된 최대 크기를 넘었을 때 발생합니다. */
+public class StorageLimitExceededException extends IOException {
+
+    private final long maxBytes;
+
+    public StorageLimitExceededException(long maxBytes) {
+        super("파일 크기가 허용된 최대 크기(" + maxBytes + " bytes)를 초과했습니다.");
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
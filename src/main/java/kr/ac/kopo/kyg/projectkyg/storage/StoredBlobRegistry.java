@@ -0,0 +1,144 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 내용 주소로 공유되는 제출 파일의 참조 수 관리 (stored_blobs 테이블).
+ * <p>
+ * - 제출물이 파일을 가리키게 되면 {@link #acquire}, 더 이상 가리키지 않으면 {@link #release}를
+ *   제출물 변경과 같은 트랜잭션에서 호출합니다.
+ * - 참조가 0 이 된 파일은 바로 지우지 않고, 유예 시간이 지난 뒤 {@link #sweep()}이 행을 잠근 채 다시 확인하고 삭제합니다.
+ *   acquire 도 같은 행을 잠그므로, 삭제 중인 파일을 새 제출물이 가리키는 일이 없습니다.
+ */
+@Component
+public class StoredBlobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(StoredBlobRegistry.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SubmissionStorage storage;
+    private final Duration gcGrace;
+    private final int gcBatchSize;
+
+    public StoredBlobRegistry(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              SubmissionStorage storage,
+                              @Value("${submission.storage.gc.grace:PT10M}") Duration gcGrace,
+                              @Value("${submission.storage.gc.batch-size:100}") int gcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.storage = storage;
+        this.gcGrace = gcGrace;
+        this.gcBatchSize = gcBatchSize;
+    }
+
+    /**
+     * 참조를 하나 늘리고(없으면 등록) 트랜잭션이 끝날 때까지 행을 잠급니다.
+     * 잠근 상태에서 임시 파일을 공개하므로, 정리 작업이 방금 지운 파일이라도 다시 채워집니다.
+     * 같은 내용이 이미 있으면 그 파일의 저장 크기/인코딩을 반환합니다.
+     */
+    public StoredContent acquire(StagedContent staged) throws IOException {
+        jdbcTemplate.update(
+                "INSERT INTO stored_blobs (storage_key, size, ref_count, created_at) VALUES (?, ?, 1, ?) "
+                        + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, released_at = NULL",
+                staged.checksum(), staged.size(), LocalDateTime.now());
+        StoredContent stored = storage.promote(staged);
+        jdbcTemplate.update(
+                "UPDATE stored_blobs SET stored_size = ?, content_encoding = ? WHERE storage_key = ?",
+                stored.storedSize(), stored.encoding(), stored.storageKey());
+        return stored;
+    }
+
+    /** 참조를 줄입니다. (같은 키가 여러 번 있으면 그 수만큼, 교착을 피하려고 키 순서대로 갱신) */
+    public void release(Collection<String> storageKeys) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String key : storageKeys) {
+            if (key != null) {
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> args.add(new Object[]{count, now, key}));
+        jdbcTemplate.batchUpdate(
+                "UPDATE stored_blobs SET ref_count = GREATEST(ref_count - ?, 0), released_at = ? WHERE storage_key = ?",
+                args);
+    }
+
+    public void release(String storageKey) {
+        if (storageKey != null) {
+            release(List.of(storageKey));
+        }
+    }
+
+    /**
+     * DB 저장이 실패해 아무도 참조하지 않을 수 있는 파일을 정리 대상으로 등록합니다.
+     * (이미 참조 중인 파일이면 아무것도 바꾸지 않음)
+     */
+    public void releaseUnreferenced(StagedContent staged) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO stored_blobs (storage_key, size, ref_count, created_at, released_at) VALUES (?, ?, 0, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE storage_key = storage_key",
+                staged.checksum(), staged.size(), now, now);
+    }
+
+    /** 참조가 0 인 채로 유예 시간이 지난 파일 삭제 */
+    @Scheduled(fixedDelayString = "${submission.storage.gc.interval:PT10M}")
+    public void sweep() {
+        List<String> candidates = jdbcTemplate.queryForList(
+                "SELECT storage_key FROM stored_blobs WHERE ref_count = 0 AND released_at < ? ORDER BY released_at LIMIT ?",
+                String.class, LocalDateTime.now().minus(gcGrace), gcBatchSize);
+
+        int deleted = 0;
+        for (String key : candidates) {
+            try {
+                Boolean removed = transactionTemplate.execute(status -> deleteIfUnreferenced(key));
+                if (Boolean.TRUE.equals(removed)) {
+                    deleted++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("제출 파일 정리 실패: {}", key, e);
+            }
+        }
+        if (deleted > 0) {
+            log.info("참조가 없는 제출 파일 {}개를 삭제했습니다.", deleted);
+        }
+    }
+
+    private boolean deleteIfUnreferenced(String key) {
+        List<Integer> refCount = jdbcTemplate.queryForList(
+                "SELECT ref_count FROM stored_blobs WHERE storage_key = ? FOR UPDATE", Integer.class, key);
+        if (refCount.isEmpty() || refCount.get(0) > 0) {
+            // 그 사이 다시 참조됨
+            return false;
+        }
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        jdbcTemplate.update("DELETE FROM stored_blobs WHERE storage_key = ?", key);
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+/**
+ * 스토리지에 저장된 파일의 메타데이터.
+ * Submission 행에는 파일 내용 대신 이 값들만 보관합니다.
+ *
+ * @param storageKey 스토리지 내부 식별 키
+ * @param size       원본 파일 크기 (byte)
+ * @param checksum   원본 파일의 SHA-256 (hex)
+ * @param storedSize 저장소에 실제로 쓰인 크기 (압축 저장 시 압축 후 크기)
+ * @param encoding   저장 인코딩 ({@link #GZIP}, 원본 그대로면 null)
+ */
+public record StoredContent(String storageKey, long size, String checksum, long storedSize, String encoding) {
+
+    /** gzip 으로 압축 저장된 파일의 인코딩 (HTTP Content-Encoding 값과 같음) */
+    public static final String GZIP = "gzip";
+
+    /** 원본 그대로 저장된 파일 */
+    public StoredContent(String storageKey, long size, String checksum) {
+        this(storageKey, size, checksum, size, null);
+    }
+
+    public boolean isGzip() {
+        return GZIP.equals(encoding);
+    }
+}
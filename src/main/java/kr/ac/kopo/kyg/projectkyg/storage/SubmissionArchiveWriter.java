@@ -0,0 +1,163 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ac.kopo.kyg.projectkyg.monitoring.StorageMetrics;
+import kr.ac.kopo.kyg.projectkyg.repository.projection.SubmissionArchiveEntry;
+import kr.ac.kopo.kyg.projectkyg.service.SubmissionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여러 제출 파일을 하나의 ZIP 으로 응답에 바로 스트리밍합니다.
+ * <p>
+ * - 파일마다 저장소 스트림을 열어 고정 크기 버퍼로 복사하므로 힙 사용량은 파일 크기/개수와 무관합니다.
+ * - 전체 크기를 미리 알 수 없으므로 Content-Length 없이(chunked) 전송합니다.
+ * - 이미 압축된 형식(zip, jpg, mp4, docx 등)은 압축 없이 담아 CPU 를 아낍니다.
+ * - 저장소에 파일이 없는 제출물은 건너뛰고 마지막에 누락 목록을 넣습니다.
+ */
+@Component
+public class SubmissionArchiveWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String MISSING_LIST_NAME = "누락된_파일.txt";
+
+    // 다시 압축해도 거의 줄지 않는 확장자
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+            "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "jar", "war", "apk",
+            "jpg", "jpeg", "png", "gif", "webp", "heic",
+            "mp3", "m4a", "aac", "ogg", "flac", "mp4", "m4v", "mov", "avi", "mkv", "webm",
+            "docx", "xlsx", "pptx", "hwpx", "odt", "ods", "odp", "epub");
+
+    private final SubmissionStorage storage;
+    private final SubmissionBlobMigrationJob blobMigrationJob;
+    private final StorageMetrics metrics;
+
+    public SubmissionArchiveWriter(SubmissionStorage storage,
+                                   SubmissionBlobMigrationJob blobMigrationJob,
+                                   StorageMetrics metrics) {
+        this.storage = storage;
+        this.blobMigrationJob = blobMigrationJob;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param archiveName       다운로드 파일명 (.zip 포함)
+     * @param groupByAssignment true 이면 과제별 폴더로 나눔 (팀 전체 내보내기)
+     */
+    public void write(HttpServletResponse response,
+                      String archiveName,
+                      List<SubmissionArchiveEntry> entries,
+                      boolean groupByAssignment) throws IOException {
+        response.setContentType("application/zip");
+        String encodedFileName = URLEncoder.encode(archiveName, StandardCharsets.UTF_8).replace("+", "%20");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFileName + "\"");
+
+        long startedAt = System.nanoTime();
+        long bytes = 0;
+        Set<String> usedNames = new HashSet<>();
+        List<String> missing = new ArrayList<>();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        // 응답 스트림은 컨테이너가 닫으므로 finish() 만 호출
+        ZipOutputStream zip = new ZipOutputStream(response.getOutputStream(), StandardCharsets.UTF_8);
+        for (SubmissionArchiveEntry entry : entries) {
+            String name = uniqueName(entryName(entry, groupByAssignment), usedNames);
+
+            Optional<String> storageKey = resolveStorageKey(entry);
+            if (storageKey.isEmpty()) {
+                missing.add(name);
+                continue;
+            }
+
+            ZipEntry zipEntry = new ZipEntry(name);
+            if (entry.submittedAt() != null) {
+                zipEntry.setTimeLocal(entry.submittedAt());
+            }
+            zip.setLevel(isCompressed(name) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(zipEntry);
+            try (InputStream in = storage.open(storageKey.get())) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    zip.write(buffer, 0, read);
+                    bytes += read;
+                }
+            }
+            zip.closeEntry();
+        }
+
+        if (!missing.isEmpty()) {
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(uniqueName(MISSING_LIST_NAME, usedNames)));
+            zip.write(String.join(System.lineSeparator(), missing).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+        metrics.recordDownload(bytes, System.nanoTime() - startedAt);
+    }
+
+    /** 저장소 키 (아직 BLOB 에 남아 있는 제출물은 이 시점에 이관, 파일이 없으면 empty) */
+    private Optional<String> resolveStorageKey(SubmissionArchiveEntry entry) {
+        if (entry.storageKey() == null) {
+            return blobMigrationJob.migrateOne(entry.id()).map(StoredContent::storageKey);
+        }
+        return storage.exists(entry.storageKey()) ? Optional.of(entry.storageKey()) : Optional.empty();
+    }
+
+    /** [지연]이름(아이디)_원래파일명, 팀 전체 내보내기는 과제명/ 폴더 아래 */
+    private static String entryName(SubmissionArchiveEntry entry, boolean groupByAssignment) {
+        String fileName = entry.fileName() != null ? entry.fileName() : "submission-" + entry.id();
+        if (fileName.startsWith(SubmissionService.LATE_PREFIX)) {
+            fileName = fileName.substring(SubmissionService.LATE_PREFIX.length());
+        }
+        String name = (Boolean.TRUE.equals(entry.late()) ? SubmissionService.LATE_PREFIX : "")
+                + entry.userName() + "(" + entry.username() + ")_" + fileName;
+        name = sanitize(name);
+        return groupByAssignment ? sanitize(entry.assignmentName()) + "/" + name : name;
+    }
+
+    /** 경로 구분자/예약 문자 제거 (ZIP 안에서 상위 폴더로 빠져나가지 않도록) */
+    private static String sanitize(String name) {
+        String cleaned = name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").strip();
+        if (cleaned.isEmpty() || cleaned.chars().allMatch(c -> c == '.')) {
+            return "_";
+        }
+        return cleaned;
+    }
+
+    /** 같은 이름이 이미 있으면 확장자 앞에 " (2)", " (3)" ... 을 붙임 */
+    private static String uniqueName(String name, Set<String> usedNames) {
+        if (usedNames.add(name)) {
+            return name;
+        }
+        int dot = name.lastIndexOf('.');
+        int slash = name.lastIndexOf('/');
+        String base = dot > slash + 1 ? name.substring(0, dot) : name;
+        String extension = dot > slash + 1 ? name.substring(dot) : "";
+        for (int n = 2; ; n++) {
+            String candidate = base + " (" + n + ")" + extension;
+            if (usedNames.add(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static boolean isCompressed(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 && COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,201 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+/**
+ * 기존 Submissions.file_data(MEDIUMBLOB)에 남아 있는 파일을 {@link SubmissionStorage}로 옮기는 일회성 마이그레이션 작업.
+ * <p>
+ * - file_data 컬럼은 V2 마이그레이션에서 NULL 허용으로 바뀌어, 새 제출은 파일 내용 없이 저장됩니다.
+ * - submission.storage.migration.enabled=true 이면 시작 시 배치 단위로 전체 이관을 수행합니다.
+ * - 아직 이관되지 않은 제출물은 다운로드 시점에 {@link #migrateOne(Long)}으로 개별 이관됩니다.
+ */
+@Component
+public class SubmissionBlobMigrationJob implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionBlobMigrationJob.class);
+
+    private static final String TABLE = "submissions";
+    private static final String LEGACY_COLUMN = "file_data";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SubmissionStorage storage;
+    private final StoredBlobRegistry blobRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public SubmissionBlobMigrationJob(JdbcTemplate jdbcTemplate,
+                                      SubmissionStorage storage,
+                                      StoredBlobRegistry blobRegistry,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${submission.storage.migration.enabled:false}") boolean enabled,
+                                      @Value("${submission.storage.migration.batch-size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.storage = storage;
+        this.blobRegistry = blobRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            int migrated = migrateAll();
+            log.info("제출 파일 이관 완료: {}건", migrated);
+        }
+    }
+
+    /** 아직 이관되지 않은 모든 제출 파일을 batchSize 단위로 이관합니다. */
+    public int migrateAll() {
+        return migrateAll(migrated -> {
+        });
+    }
+
+    /** 이관 대기 중인 제출물 수 (legacy 컬럼이 없으면 0) */
+    public long countPending() {
+        if (!hasLegacyColumn()) {
+            return 0;
+        }
+        Long pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " WHERE storage_key IS NULL AND " + LEGACY_COLUMN + " IS NOT NULL",
+                Long.class);
+        return pending != null ? pending : 0;
+    }
+
+    /**
+     * @param onBatch 배치마다 지금까지 이관한 건수로 호출 (예외를 던지면 다음 배치부터 중단)
+     */
+    public int migrateAll(IntConsumer onBatch) {
+        if (!hasLegacyColumn()) {
+            return 0;
+        }
+        int migrated = 0;
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM " + TABLE + " WHERE storage_key IS NULL AND " + LEGACY_COLUMN + " IS NOT NULL"
+                            + " AND id > ? ORDER BY id LIMIT ?",
+                    Long.class, lastId, batchSize);
+            if (ids.isEmpty()) {
+                return migrated;
+            }
+            for (Long id : ids) {
+                if (migrateRow(id)) {
+                    migrated++;
+                }
+            }
+            lastId = ids.get(ids.size() - 1);
+            log.info("제출 파일 이관 진행 중: {}건 (마지막 id={})", migrated, lastId);
+            onBatch.accept(migrated);
+        }
+    }
+
+    /**
+     * 제출물 한 건을 (필요하면) 이관하고 스토리지 메타데이터를 반환합니다.
+     * 다운로드 시점에 아직 BLOB 에 남아 있는 제출물을 처리하는 데 사용합니다.
+     */
+    public Optional<StoredContent> migrateOne(Long submissionId) {
+        migrateRow(submissionId);
+        List<StoredContent> rows = jdbcTemplate.query(
+                "SELECT storage_key, file_size, checksum, COALESCE(stored_size, file_size), content_encoding FROM " + TABLE
+                        + " WHERE id = ? AND storage_key IS NOT NULL",
+                (rs, rowNum) -> new StoredContent(rs.getString(1), rs.getLong(2), rs.getString(3), rs.getLong(4), rs.getString(5)),
+                submissionId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 제출물 한 건의 BLOB 을 스트리밍으로 스토리지에 옮기고, 행에는 메타데이터만 남깁니다.
+     *
+     * @return 이관했으면 true, 이관할 데이터가 없거나 다른 곳에서 먼저 이관했으면 false
+     */
+    private boolean migrateRow(Long submissionId) {
+        LegacyRow row = jdbcTemplate.query(
+                "SELECT file_name, " + LEGACY_COLUMN + " FROM " + TABLE + " WHERE id = ? AND storage_key IS NULL",
+                rs -> rs.next() ? copyToStorage(rs) : null,
+                submissionId);
+        if (row == null) {
+            return false;
+        }
+
+        try {
+            Boolean migrated = transactionTemplate.execute(status -> {
+                StagedContent staged = row.staged();
+                int updated = jdbcTemplate.update(
+                        "UPDATE " + TABLE + " SET storage_key = ?, file_size = ?, checksum = ?, content_type = ?, "
+                                + LEGACY_COLUMN + " = NULL WHERE id = ? AND storage_key IS NULL",
+                        staged.checksum(), staged.size(), staged.checksum(), row.contentType(), submissionId);
+                if (updated == 0) {
+                    // 동시에 다른 요청이 먼저 이관한 경우: 임시 파일은 버립니다.
+                    return false;
+                }
+                // 같은 내용의 파일이 이미 있으면 공유 (참조 +1), 실제로 쓰인 파일의 저장 크기/인코딩 기록
+                StoredContent stored;
+                try {
+                    stored = blobRegistry.acquire(staged);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("제출 파일 이관 중 오류가 발생했습니다.", e);
+                }
+                jdbcTemplate.update(
+                        "UPDATE " + TABLE + " SET stored_size = ?, content_encoding = ? WHERE id = ?",
+                        stored.storedSize(), stored.encoding(), submissionId);
+                return true;
+            });
+            return Boolean.TRUE.equals(migrated);
+        } finally {
+            try {
+                storage.discard(row.staged());
+            } catch (IOException e) {
+                log.warn("이관 임시 파일 삭제 실패: {}", row.staged().stagingId(), e);
+            }
+        }
+    }
+
+    private LegacyRow copyToStorage(ResultSet rs) throws SQLException {
+        String fileName = rs.getString(1);
+        try (InputStream in = rs.getBinaryStream(2)) {
+            if (in == null) {
+                return null;
+            }
+            String contentType = MediaTypeFactory.getMediaType(fileName)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            // 압축 여부는 파일명으로 추정한 콘텐츠 타입과 앞부분 바이트로 판단
+            return new LegacyRow(storage.stage(in, Long.MAX_VALUE, contentType), contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("제출 파일 이관 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private boolean hasLegacyColumn() {
+        Boolean exists = jdbcTemplate.execute((Connection con) -> {
+            try (ResultSet rs = con.getMetaData().getColumns(con.getCatalog(), null, TABLE, LEGACY_COLUMN)) {
+                return rs.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private record LegacyRow(StagedContent staged, String contentType) {
+    }
+}
@@ -0,0 +1,24 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import jakarta.persistence.PreRemove;
+import kr.ac.kopo.kyg.projectkyg.domain.Submission;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 제출물 엔티티가 삭제될 때(과제/팀 cascade, deleteAllByAssignmentId 등) 파일 참조를 줄입니다.
+ * 엔티티를 거치지 않는 일괄 DELETE 는 호출한 쪽에서 {@link StoredBlobRegistry#release}를 직접 호출해야 합니다.
+ */
+public class SubmissionBlobReleaseListener {
+
+    // Hibernate 가 EntityManagerFactory 를 만드는 중에 생성하므로, 트랜잭션 매니저에 의존하는 레지스트리는 사용할 때 조회
+    private final ObjectProvider<StoredBlobRegistry> blobRegistry;
+
+    public SubmissionBlobReleaseListener(ObjectProvider<StoredBlobRegistry> blobRegistry) {
+        this.blobRegistry = blobRegistry;
+    }
+
+    @PreRemove
+    public void release(Submission submission) {
+        blobRegistry.getObject().release(submission.getStorageKey());
+    }
+}
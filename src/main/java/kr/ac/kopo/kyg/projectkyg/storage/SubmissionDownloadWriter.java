@@ -0,0 +1,307 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ac.kopo.kyg.projectkyg.monitoring.StorageMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 제출 파일을 응답으로 스트리밍합니다. (파일 전체를 힙에 올리지 않음)
+ * <p>
+ * - 로컬 파일이면 Tomcat sendfile, 지원하지 않으면 FileChannel.transferTo 로 전송합니다.
+ * - 단일 Range 요청과 If-Range(ETag/Last-Modified)를 지원하여 이어받기가 가능합니다.
+ * - 다중 Range 요청은 전체 파일(200)로 응답합니다.
+ * - gzip 으로 압축 저장된 파일은 클라이언트가 gzip 을 받으면(Range 없이) 압축된 바이트를 Content-Encoding: gzip 으로 그대로 보내고,
+ *   아니면 풀면서 원본으로 보냅니다.
+ * - ETag 는 내용의 SHA-256 이므로 {@link #checkNotModified}로 파일을 읽기 전에 304 로 응답할 수 있습니다.
+ */
+@Component
+public class SubmissionDownloadWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 브라우저는 저장하되 매번 ETag 로 다시 확인 (공유 캐시에는 저장하지 않음)
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final SubmissionStorage storage;
+    private final StorageMetrics metrics;
+
+    public SubmissionDownloadWriter(SubmissionStorage storage, StorageMetrics metrics) {
+        this.storage = storage;
+        this.metrics = metrics;
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 를 비교해 변경이 없으면 304 로 응답합니다.
+     * 이 요청에 {@link #write}가 보낼 표현(원본 또는 gzip)의 ETag 와 비교합니다.
+     *
+     * @param checksum 내용의 SHA-256 (없으면 비교하지 않음)
+     * @param encoding 저장 인코딩
+     * @return 304 로 응답했으면 true
+     */
+    public boolean checkNotModified(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    String checksum,
+                                    String encoding,
+                                    Instant lastModified) {
+        if (checksum == null) {
+            return false;
+        }
+        boolean gzip = StoredContent.GZIP.equals(encoding);
+        setCacheHeaders(response, gzip);
+        String etag = etag(checksum, gzip && sendsEncoded(request));
+        return new ServletWebRequest(request, response)
+                .checkNotModified(etag, lastModified != null ? lastModified.toEpochMilli() : -1);
+    }
+
+    /**
+     * @param stored       저장소 메타데이터 (크기, 체크섬, 저장 인코딩)
+     * @param fileName     다운로드 파일명
+     * @param lastModified 제출 시각 (Last-Modified / If-Range 비교용, 없으면 null)
+     */
+    public void write(HttpServletRequest request,
+                      HttpServletResponse response,
+                      StoredContent stored,
+                      String fileName,
+                      Instant lastModified) throws IOException {
+        long size = stored.size();
+        String etag = stored.checksum() != null ? etag(stored.checksum(), false) : null;
+
+        if (lastModified != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli());
+        }
+        setAttachmentHeaders(response, fileName);
+        setCacheHeaders(response, stored.isGzip());
+
+        if (stored.isGzip() && sendsEncoded(request)) {
+            writeEncoded(request, response, stored);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+
+        long start = 0;
+        long end = size - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && size > 0 && ifRangeMatches(request, etag, lastModified)) {
+            Optional<HttpRange> range = parseSingleRange(rangeHeader);
+            if (range.isPresent()) {
+                start = range.get().getRangeStart(size);
+                end = range.get().getRangeEnd(size);
+                // 만족할 수 없는 범위 (HttpRange 는 시작 위치가 파일 크기를 넘어도 예외 없이 그대로 반환)
+                if (start >= size || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setContentLengthLong(0);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = size == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        // sendfile 로 넘긴 경우 소요 시간은 위임까지만 측정됩니다.
+        long startedAt = System.nanoTime();
+        Optional<Path> localPath = stored.isGzip() ? Optional.empty() : storage.localPath(stored.storageKey());
+        if (localPath.isPresent()) {
+            writeFile(request, response, localPath.get(), start, length);
+        } else {
+            // 로컬 경로가 없거나 압축 저장본이면 원본으로 풀면서 전송
+            writeStream(response, stored.storageKey(), start, length);
+        }
+        metrics.recordDownload(length, System.nanoTime() - startedAt);
+    }
+
+    private void setAttachmentHeaders(HttpServletResponse response, String fileName) {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        // 파일 다운로드 시 파일명이 깨지지 않도록 인코딩 처리
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFileName + "\"");
+    }
+
+    /** 압축 저장된 바이트를 그대로 전송 (Content-Encoding: gzip, 클라이언트가 풀어서 저장) */
+    private void writeEncoded(HttpServletRequest request, HttpServletResponse response,
+                              StoredContent stored) throws IOException {
+        long length = stored.storedSize();
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, StoredContent.GZIP);
+        // 원본과 다른 표현이므로 ETag 도 구분
+        if (stored.checksum() != null) {
+            response.setHeader(HttpHeaders.ETAG, etag(stored.checksum(), true));
+        }
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Optional<Path> localPath = storage.localPath(stored.storageKey());
+        if (localPath.isPresent()) {
+            writeFile(request, response, localPath.get(), 0, length);
+        } else {
+            try (InputStream in = storage.openEncoded(stored.storageKey())) {
+                in.transferTo(response.getOutputStream());
+            }
+        }
+        metrics.recordDownload(length, System.nanoTime() - startedAt);
+    }
+
+    private void setCacheHeaders(HttpServletResponse response, boolean gzip) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (gzip) {
+            // 같은 URL 이 Accept-Encoding 에 따라 다른 표현으로 응답되므로 캐시에 알림
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    /** 압축 저장본을 그대로 보낼 요청인지 (Range 없이 gzip 을 받는 클라이언트) */
+    private boolean sendsEncoded(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.RANGE) == null && acceptsGzip(request);
+    }
+
+    /** 원본과 gzip 표현은 다른 바이트이므로 ETag 도 구분 */
+    private static String etag(String checksum, boolean encoded) {
+        return encoded ? "\"" + checksum + "-" + StoredContent.GZIP + "\"" : "\"" + checksum + "\"";
+    }
+
+    /** Accept-Encoding 에 gzip(또는 *)이 q=0 이 아닌 값으로 있는지 확인 */
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].strip();
+            if (!coding.equalsIgnoreCase(StoredContent.GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].strip();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 로컬 파일 전송: Tomcat sendfile 이 가능하면 위임, 아니면 FileChannel.transferTo 사용 */
+    private void writeFile(HttpServletRequest request, HttpServletResponse response,
+                           Path path, long start, long length) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /** 로컬 경로가 없는 저장소: 고정 크기 버퍼로 필요한 구간만 복사 */
+    private void writeStream(HttpServletResponse response, String storageKey,
+                             long start, long length) throws IOException {
+        try (InputStream in = storage.open(storageKey)) {
+            in.skipNBytes(start);
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    /** If-Range 가 없거나, 현재 ETag/Last-Modified 와 일치할 때만 Range 를 적용합니다. */
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, Instant lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 약한 ETag 는 Range 에 사용할 수 없습니다.
+            return etag != null && etag.equals(ifRange);
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified.getEpochSecond() == since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** 단일 Range 만 적용하고, 형식 오류나 다중 Range 는 무시합니다. */
+    private Optional<HttpRange> parseSingleRange(String rangeHeader) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 제출 파일 내용을 보관하는 저장소 추상화.
+ * DB(Submissions 테이블)에는 storageKey/크기/체크섬/콘텐츠 타입만 저장하고,
+ * 실제 바이트는 이 인터페이스의 구현체(기본: 파일 시스템)에 저장합니다.
+ * <p>
+ * 파일은 내용의 SHA-256 을 키로 저장하여 같은 내용은 한 번만 저장합니다.
+ * 여러 제출물이 같은 파일을 공유하므로, 제출물에서 쓰는 파일은 {@link StoredBlobRegistry}로 참조 수를 관리하고
+ * 파일 삭제도 참조가 0 이 된 뒤 레지스트리만 수행합니다.
+ */
+public interface SubmissionStorage {
+
+    /**
+     * 스트림을 고정 크기 버퍼 단위로 읽어 임시 위치에 저장하고, 읽는 동안 크기와 체크섬을 계산합니다.
+     *
+     * 압축이 잘 되는 내용이면 구현체가 압축해서 저장할 수 있습니다. (크기와 체크섬은 항상 원본 기준)
+     *
+     * @param maxBytes    허용 최대 크기(원본 기준). 넘으면 쓰던 파일을 버리고 {@link StorageLimitExceededException}
+     * @param contentType 업로드된 Content-Type (압축 여부 판단용, 모르면 null)
+     */
+    StagedContent stage(InputStream content, long maxBytes, String contentType) throws IOException;
+
+    default StagedContent stage(InputStream content, long maxBytes) throws IOException {
+        return stage(content, maxBytes, null);
+    }
+
+    /**
+     * 임시 파일을 내용 주소(체크섬) 키로 공개합니다. 같은 내용의 파일이 이미 있으면 임시 파일을 버립니다.
+     * 참조를 관리하는 파일은 {@link StoredBlobRegistry#acquire}로 잠근 트랜잭션 안에서 호출해야 합니다.
+     */
+    StoredContent promote(StagedContent staged) throws IOException;
+
+    /** 임시 파일을 버립니다. (이미 공개했거나 없으면 무시) */
+    void discard(StagedContent staged) throws IOException;
+
+    /** 참조 관리 없이 바로 저장합니다. (stage + promote) */
+    default StoredContent store(InputStream content) throws IOException {
+        return store(content, Long.MAX_VALUE);
+    }
+
+    /** 참조 관리 없이 바로 저장합니다. (stage + promote) */
+    default StoredContent store(InputStream content, long maxBytes) throws IOException {
+        StagedContent staged = stage(content, maxBytes);
+        try {
+            return promote(staged);
+        } finally {
+            discard(staged);
+        }
+    }
+
+    /** 저장된 파일을 읽기 위한 스트림을 엽니다. (압축 저장된 파일은 풀어서 원본을 반환) */
+    InputStream open(String storageKey) throws IOException;
+
+    /** 저장된 바이트를 그대로 읽습니다. (압축 저장된 파일은 압축된 상태, {@link StoredContent#encoding()} 참고) */
+    default InputStream openEncoded(String storageKey) throws IOException {
+        return open(storageKey);
+    }
+
+    /**
+     * 저장된 파일이 로컬 파일 시스템에 있으면 그 경로를 반환합니다. (압축 저장된 파일은 압축본의 경로)
+     * 다운로드 시 FileChannel/sendfile 로 힙을 거치지 않고 전송하는 데 사용합니다.
+     */
+    default Optional<Path> localPath(String storageKey) {
+        return Optional.empty();
+    }
+
+    /** 저장된 파일이 존재하는지 확인합니다. */
+    boolean exists(String storageKey);
+
+    /** 저장된 파일을 삭제합니다. (없으면 무시, 공유 파일이므로 {@link StoredBlobRegistry} 외에서는 호출하지 않음) */
+    void delete(String storageKey) throws IOException;
+}
@@ -0,0 +1,140 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 2계층 제출 파일 저장소.
+ * <p>
+ * 새 파일과 최근 파일은 {@link FileSystemSubmissionStorage}(hot)에 두고, 마감이 오래 지난 과제의 파일은
+ * {@link ColdStorageTieringJob}이 세그먼트 파일(보관 계층)로 옮깁니다.
+ * hot 에 없는 파일은 archived_blobs 색인으로 세그먼트에서 찾아 {@link ArchiveReadCache}에 복원한 뒤 읽으므로,
+ * 다운로드/ZIP 내보내기 등 호출하는 쪽은 어느 계층에 있는지 알 필요가 없습니다.
+ * 캐시 파일은 축출될 수 있으므로 경로({@link #localPath})는 hot 파일만 내주고, 보관 계층 파일은 스트림으로 읽습니다.
+ */
+@Primary
+@Component
+public class TieredSubmissionStorage implements SubmissionStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileSystemSubmissionStorage hot;
+    private final SegmentArchive archive;
+    private final ArchiveReadCache cache;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TieredSubmissionStorage(FileSystemSubmissionStorage hot,
+                                   SegmentArchive archive,
+                                   ArchiveReadCache cache,
+                                   JdbcTemplate jdbcTemplate) {
+        this.hot = hot;
+        this.archive = archive;
+        this.cache = cache;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** 보관 계층의 파일 위치 */
+    private record ArchivedLocation(String segmentFile, long offset, long length, String encoding) {
+
+        boolean isGzip() {
+            return StoredContent.GZIP.equals(encoding);
+        }
+    }
+
+    @Override
+    public StagedContent stage(InputStream content, long maxBytes, String contentType) throws IOException {
+        return hot.stage(content, maxBytes, contentType);
+    }
+
+    @Override
+    public StoredContent promote(StagedContent staged) throws IOException {
+        String key = staged.checksum();
+        if (!hot.exists(key)) {
+            // 같은 내용이 이미 보관 계층에 있으면 그 파일을 공유 (hot 에 다시 만들지 않음)
+            Optional<ArchivedLocation> archived = findArchived(key);
+            if (archived.isPresent()) {
+                return new StoredContent(key, staged.size(), staged.checksum(),
+                        archived.get().length(), archived.get().encoding());
+            }
+        }
+        return hot.promote(staged);
+    }
+
+    @Override
+    public void discard(StagedContent staged) throws IOException {
+        hot.discard(staged);
+    }
+
+    @Override
+    public InputStream open(String storageKey) throws IOException {
+        if (hot.exists(storageKey)) {
+            try {
+                return hot.open(storageKey);
+            } catch (NoSuchFileException e) {
+                // 그 사이 보관 계층으로 옮겨짐
+            }
+        }
+        ArchivedLocation location = requireArchived(storageKey);
+        InputStream in = Channels.newInputStream(rehydrate(storageKey, location));
+        return location.isGzip() ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    @Override
+    public InputStream openEncoded(String storageKey) throws IOException {
+        if (hot.exists(storageKey)) {
+            try {
+                return hot.openEncoded(storageKey);
+            } catch (NoSuchFileException e) {
+                // 그 사이 보관 계층으로 옮겨짐
+            }
+        }
+        return Channels.newInputStream(rehydrate(storageKey, requireArchived(storageKey)));
+    }
+
+    /** hot 파일만 (보관 계층 파일은 캐시에서 축출될 수 있어 경로로 내주지 않음) */
+    @Override
+    public Optional<Path> localPath(String storageKey) {
+        return hot.localPath(storageKey);
+    }
+
+    @Override
+    public boolean exists(String storageKey) {
+        return hot.exists(storageKey) || findArchived(storageKey).isPresent();
+    }
+
+    /** 두 계층 모두에서 삭제합니다. (세그먼트 안의 바이트는 세그먼트가 비면 함께 삭제) */
+    @Override
+    public void delete(String storageKey) throws IOException {
+        hot.delete(storageKey);
+        cache.evict(storageKey);
+        jdbcTemplate.update("DELETE FROM archived_blobs WHERE storage_key = ?", storageKey);
+    }
+
+    private FileChannel rehydrate(String storageKey, ArchivedLocation location) throws IOException {
+        return cache.open(storageKey, location.isGzip(), target ->
+                archive.copyEntry(location.segmentFile(), location.offset(), location.length(), target));
+    }
+
+    private ArchivedLocation requireArchived(String storageKey) throws IOException {
+        return findArchived(storageKey)
+                .orElseThrow(() -> new NoSuchFileException("저장된 파일을 찾을 수 없습니다: " + storageKey));
+    }
+
+    private Optional<ArchivedLocation> findArchived(String storageKey) {
+        return jdbcTemplate.query(
+                "SELECT s.file_name, b.entry_offset, b.entry_length, b.content_encoding FROM archived_blobs b "
+                        + "JOIN archive_segments s ON s.id = b.segment_id WHERE b.storage_key = ?",
+                (rs, rowNum) -> new ArchivedLocation(rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getString(4)),
+                storageKey).stream().findFirst();
+    }
+}
@@ -0,0 +1,137 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 분할 업로드 중인 청크를 임시로 보관하는 디렉터리 저장소.
+ * <p>
+ * 청크는 {root}/uploads/{sessionId}/{index}.part 로 저장되며, 임시 파일에 쓴 뒤 크기를 확인하고 rename 하므로
+ * 같은 번호의 청크를 다시 보내도(재시도) 항상 완전한 한 벌만 남고, 중간에 끊긴 청크는 수신된 것으로 보이지 않습니다.
+ */
+@Component
+public class UploadChunkStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PART_SUFFIX = ".part";
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("[0-9a-f]{32}");
+
+    private final Path uploadsDir;
+
+    public UploadChunkStore(@Value("${submission.storage.root:./data/submissions}") String root) throws IOException {
+        this.uploadsDir = Path.of(root).toAbsolutePath().normalize().resolve("uploads");
+        Files.createDirectories(this.uploadsDir);
+    }
+
+    /**
+     * 청크를 저장합니다. (같은 번호는 덮어쓰기)
+     *
+     * @param expectedBytes 청크 크기. 받은 바이트 수가 다르면 저장하지 않음
+     * @throws StorageLimitExceededException 청크가 expectedBytes 를 넘은 경우
+     * @throws IllegalArgumentException      청크가 expectedBytes 보다 짧은 경우 (연결 끊김 등)
+     */
+    public void writeChunk(String sessionId, int index, InputStream content, long expectedBytes) throws IOException {
+        Path dir = sessionDir(sessionId);
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, index + "-", ".tmp");
+
+        long size = 0;
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                if (size + read > expectedBytes) {
+                    throw new StorageLimitExceededException(expectedBytes);
+                }
+                out.write(buffer, 0, read);
+                size += read;
+            }
+            if (size != expectedBytes) {
+                throw new IllegalArgumentException(
+                        "청크 크기가 올바르지 않습니다. (예상 " + expectedBytes + ", 수신 " + size + ")");
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        Files.move(tmp, dir.resolve(index + PART_SUFFIX),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** 수신 완료된 청크 번호 목록 */
+    public SortedSet<Integer> receivedChunks(String sessionId) throws IOException {
+        SortedSet<Integer> indexes = new TreeSet<>();
+        Path dir = sessionDir(sessionId);
+        if (!Files.isDirectory(dir)) {
+            return indexes;
+        }
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(dir, "*" + PART_SUFFIX)) {
+            for (Path part : parts) {
+                String name = part.getFileName().toString();
+                indexes.add(Integer.parseInt(name.substring(0, name.length() - PART_SUFFIX.length())));
+            }
+        }
+        return indexes;
+    }
+
+    /** index 번째 청크의 저장된 크기 (없으면 -1) */
+    public long chunkSize(String sessionId, int index) throws IOException {
+        Path part = sessionDir(sessionId).resolve(index + PART_SUFFIX);
+        return Files.exists(part) ? Files.size(part) : -1;
+    }
+
+    /** 0..chunkCount-1 청크를 순서대로 이어 읽는 스트림 (청크 파일은 하나씩 열고 닫음) */
+    public InputStream openAssembled(String sessionId, int chunkCount) {
+        Path dir = sessionDir(sessionId);
+        Enumeration<InputStream> parts = new Enumeration<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < chunkCount;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (!hasMoreElements()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return Files.newInputStream(dir.resolve((next++) + PART_SUFFIX));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return new SequenceInputStream(parts);
+    }
+
+    /** 세션의 모든 청크를 삭제합니다. */
+    public void deleteSession(String sessionId) throws IOException {
+        FileSystemUtils.deleteRecursively(sessionDir(sessionId));
+    }
+
+    private Path sessionDir(String sessionId) {
+        if (sessionId == null || !SESSION_ID_PATTERN.matcher(sessionId).matches()) {
+            throw new IllegalArgumentException("잘못된 업로드 세션 ID입니다: " + sessionId);
+        }
+        return uploadsDir.resolve(sessionId);
+    }
+}
@@ -0,0 +1,5 @@
+-- 작업을 가져간 실행의 토큰: heartbeat/진행률/종료는 토큰이 일치할 때만 반영
+-- (heartbeat 가 끊겨 다시 큐에 들어간 뒤 이전 워커가 늦게 끝나도 새 실행의 상태를 덮어쓰지 않음)
+
+ALTER TABLE background_jobs
+    ADD COLUMN claim_token VARCHAR(32);
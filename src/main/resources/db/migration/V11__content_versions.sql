@@ -0,0 +1,8 @@
+-- 목록 화면 조건부 요청(ETag)용 버전: 여러 인스턴스가 같은 버전을 보도록 DB 에 보관
+-- scope 예: global, team-list, team:{id}, assignment:{id}
+
+CREATE TABLE content_versions (
+    scope   VARCHAR(40) NOT NULL,
+    version BIGINT      NOT NULL,
+    PRIMARY KEY (scope)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- 저장소 키(storage_key)로 파일을 찾으므로 더 이상 쓰지 않는 기존 저장 파일명 컬럼 삭제
+
+ALTER TABLE submissions
+    DROP COLUMN stored_unique_name;
@@ -0,0 +1,5 @@
+-- 사용자 캐시 검증용 버전: 사용자 정보나 팀 가입/팀장 관계를 바꾸는 트랜잭션이 함께 올림
+-- (각 인스턴스는 캐시된 항목의 버전이 DB 와 다르면 다시 읽으므로, 다른 인스턴스의 변경도 바로 반영됨)
+
+ALTER TABLE users
+    ADD COLUMN cache_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,53 @@
+-- 기준 스키마 (ddl-auto=update 로 만들어지던 스키마와 동일)
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뜁니다.
+
+CREATE TABLE users (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    name     VARCHAR(50)  NOT NULL,
+    username VARCHAR(50)  NOT NULL,
+    password VARCHAR(100) NOT NULL,
+    role     ENUM ('ROLE_ADMIN', 'ROLE_USER') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE teams (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    name             VARCHAR(50)  NOT NULL,
+    description      VARCHAR(200) NOT NULL,
+    manager_username VARCHAR(50)  NOT NULL,
+    manager_name     VARCHAR(50)  NOT NULL,
+    password         VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_team (
+    user_id BIGINT NOT NULL,
+    team_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, team_id),
+    CONSTRAINT fk_user_team_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_team_team FOREIGN KEY (team_id) REFERENCES teams (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE assignments (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    deadline    DATETIME(6)  NOT NULL,
+    team_id     BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_assignments_team FOREIGN KEY (team_id) REFERENCES teams (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE submissions (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    assignment_id      BIGINT,
+    user_id            BIGINT,
+    submitted_at       DATETIME(6),
+    file_data          MEDIUMBLOB   NOT NULL,
+    file_name          VARCHAR(255),
+    stored_unique_name VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_submissions_assignment FOREIGN KEY (assignment_id) REFERENCES assignments (id),
+    CONSTRAINT fk_submissions_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,25 @@
+-- 제출 파일을 DB BLOB 대신 저장소(SubmissionStorage)에 저장
+-- 기존 file_data 는 SubmissionBlobMigrationJob 이 이관하며, 새 제출은 file_data 없이 저장되므로 NULL 허용으로 변경
+
+ALTER TABLE submissions
+    MODIFY file_data MEDIUMBLOB NULL,
+    ADD COLUMN late         BIT,
+    ADD COLUMN storage_key  VARCHAR(64),
+    ADD COLUMN file_size    BIGINT,
+    ADD COLUMN checksum     VARCHAR(64),
+    ADD COLUMN content_type VARCHAR(100);
+
+-- 분할 업로드 세션
+CREATE TABLE upload_sessions (
+    id               VARCHAR(32)  NOT NULL,
+    assignment_id    BIGINT       NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    file_name        VARCHAR(255) NOT NULL,
+    content_type     VARCHAR(100),
+    total_size       BIGINT       NOT NULL,
+    chunk_size       INT          NOT NULL,
+    chunk_count      INT          NOT NULL,
+    started_at       DATETIME(6)  NOT NULL,
+    last_activity_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
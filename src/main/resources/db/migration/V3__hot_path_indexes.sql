@@ -0,0 +1,26 @@
+-- 자주 쓰이는 조회 경로용 인덱스와 제출 중복 방지 제약
+
+-- 1. (과제, 사용자)당 제출은 한 건: 동시 제출로 생긴 중복 행은 가장 최근(id 가 큰) 행만 남김
+DELETE older
+FROM submissions older
+         JOIN submissions newer
+              ON older.assignment_id = newer.assignment_id
+                  AND older.user_id = newer.user_id
+                  AND older.id < newer.id;
+
+ALTER TABLE submissions
+    ADD CONSTRAINT uk_submissions_assignment_user UNIQUE (assignment_id, user_id);
+
+-- 2. 팀장 기준 조회 (findByManagerUsername / findByManagerName, 메인 대시보드)
+CREATE INDEX idx_teams_manager_username ON teams (manager_username);
+CREATE INDEX idx_teams_manager_name ON teams (manager_name);
+
+-- 3. 팀별 과제 목록 / 마감 전 미제출 과제 확인
+CREATE INDEX idx_assignments_team_deadline ON assignments (team_id, deadline);
+
+-- 4. 방치된 업로드 세션 정리
+CREATE INDEX idx_upload_sessions_last_activity ON upload_sessions (last_activity_at);
+
+-- 5. 관리자 사용자/팀 목록 (이름순 keyset 페이지)
+CREATE INDEX idx_users_name_id ON users (name, id);
+CREATE INDEX idx_teams_name_id ON teams (name, id);
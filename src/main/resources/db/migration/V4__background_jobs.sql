@@ -0,0 +1,24 @@
+-- 관리자용 백그라운드 작업 (고아 팀 정리, 사용자 삭제, 제출 파일 이관)
+
+CREATE TABLE background_jobs (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    type           ENUM ('ORPHAN_TEAM_CLEANUP', 'USER_DELETION', 'SUBMISSION_BLOB_MIGRATION') NOT NULL,
+    status         ENUM ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED', 'CANCELLED') NOT NULL,
+    target_id      BIGINT,
+    requested_by   VARCHAR(50) NOT NULL,
+    progress_done  BIGINT      NOT NULL,
+    progress_total BIGINT,
+    message        VARCHAR(500),
+    attempts       INT         NOT NULL,
+    max_attempts   INT         NOT NULL,
+    cancel_requested BIT       NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    run_after      DATETIME(6) NOT NULL,
+    started_at     DATETIME(6),
+    heartbeat_at   DATETIME(6),
+    finished_at    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 실행할 작업 찾기 (QUEUED + run_after 경과) / 멈춘 작업 찾기 (RUNNING + heartbeat_at)
+CREATE INDEX idx_background_jobs_status_run_after ON background_jobs (status, run_after);
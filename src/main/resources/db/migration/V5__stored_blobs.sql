@@ -0,0 +1,21 @@
+-- 제출 파일 내용 중복 제거: 저장소 키(내용의 SHA-256)별 참조 수
+-- 참조 수가 0 이 된 파일은 유예 시간이 지난 뒤 StoredBlobRegistry 가 삭제합니다.
+
+CREATE TABLE stored_blobs (
+    storage_key VARCHAR(64) NOT NULL,
+    size        BIGINT      NOT NULL,
+    ref_count   INT         NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    released_at DATETIME(6),
+    PRIMARY KEY (storage_key)
+) ENGINE = InnoDB;
+
+-- 정리 대상(참조 0) 찾기
+CREATE INDEX idx_stored_blobs_ref_count_released ON stored_blobs (ref_count, released_at);
+
+-- 기존 제출 파일(UUID 키)도 참조 수를 관리하도록 등록
+INSERT INTO stored_blobs (storage_key, size, ref_count, created_at)
+SELECT storage_key, COALESCE(MAX(file_size), 0), COUNT(*), NOW(6)
+FROM submissions
+WHERE storage_key IS NOT NULL
+GROUP BY storage_key;
@@ -0,0 +1,13 @@
+-- 제출 파일 압축 저장: 저장소에 실제로 쓰인 크기와 인코딩(gzip, 없으면 원본 그대로)
+
+ALTER TABLE submissions
+    ADD COLUMN stored_size      BIGINT,
+    ADD COLUMN content_encoding VARCHAR(20);
+
+ALTER TABLE stored_blobs
+    ADD COLUMN stored_size      BIGINT,
+    ADD COLUMN content_encoding VARCHAR(20);
+
+-- 기존 파일은 원본 그대로 저장되어 있음
+UPDATE submissions SET stored_size = file_size WHERE storage_key IS NOT NULL;
+UPDATE stored_blobs SET stored_size = size;
@@ -0,0 +1,29 @@
+-- 보관 계층: 마감이 오래 지난 과제의 제출 파일을 세그먼트 파일로 묶어 보관
+-- 세그먼트 파일은 여러 파일의 저장 바이트(압축 저장된 파일은 gzip 그대로)를 이어 붙인 것이며,
+-- archived_blobs 가 파일별 위치(세그먼트, 오프셋, 길이) 색인입니다.
+
+CREATE TABLE archive_segments (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    file_name   VARCHAR(100) NOT NULL,
+    size        BIGINT       NOT NULL,
+    entry_count INT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_archive_segments_file_name UNIQUE (file_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE archived_blobs (
+    storage_key      VARCHAR(64) NOT NULL,
+    segment_id       BIGINT      NOT NULL,
+    entry_offset     BIGINT      NOT NULL,
+    entry_length     BIGINT      NOT NULL,
+    content_encoding VARCHAR(20),
+    archived_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (storage_key)
+) ENGINE = InnoDB;
+
+-- 비어 있는 세그먼트 찾기
+CREATE INDEX idx_archived_blobs_segment ON archived_blobs (segment_id);
+
+-- 파일을 참조하는 제출물 찾기 (보관 대상 판단)
+CREATE INDEX idx_submissions_storage_key ON submissions (storage_key);
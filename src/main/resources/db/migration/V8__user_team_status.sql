@@ -0,0 +1,23 @@
+-- 메인 페이지용: (사용자, 팀)별 마감 전 미제출 과제 수
+-- 제출/과제 추가·삭제/팀 가입·탈퇴 시 해당 팀(또는 팀원) 행만 다시 계산하고,
+-- 마감 시각이 되면 AssignmentDeadlineScheduler 가 그 팀의 행을 다시 계산합니다.
+
+CREATE TABLE user_team_status (
+    user_id          BIGINT      NOT NULL,
+    team_id          BIGINT      NOT NULL,
+    open_unsubmitted INT         NOT NULL,
+    refreshed_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, team_id)
+) ENGINE = InnoDB;
+
+-- 팀 단위 재계산
+CREATE INDEX idx_user_team_status_team ON user_team_status (team_id);
+
+INSERT INTO user_team_status (user_id, team_id, open_unsubmitted, refreshed_at)
+SELECT ut.user_id, ut.team_id,
+       (SELECT COUNT(*) FROM assignments a
+        WHERE a.team_id = ut.team_id
+          AND a.deadline > NOW(6)
+          AND NOT EXISTS (SELECT 1 FROM submissions s WHERE s.assignment_id = a.id AND s.user_id = ut.user_id)),
+       NOW(6)
+FROM user_team ut;
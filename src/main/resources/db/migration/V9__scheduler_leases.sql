@@ -0,0 +1,12 @@
+-- 여러 인스턴스 중 한 곳에서만 실행해야 하는 정기 작업의 실행권 (조건부 UPDATE 로 획득, locked_until 까지 유효)
+
+CREATE TABLE scheduler_leases (
+    name         VARCHAR(50) NOT NULL,
+    owner        VARCHAR(32),
+    locked_until DATETIME(6),
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- 세그먼트 색인은 세그먼트 행이 있을 때만 (빈 세그먼트 정리와 색인 추가가 겹치면 색인 추가가 실패)
+ALTER TABLE archived_blobs
+    ADD CONSTRAINT fk_archived_blobs_segment FOREIGN KEY (segment_id) REFERENCES archive_segments (id);
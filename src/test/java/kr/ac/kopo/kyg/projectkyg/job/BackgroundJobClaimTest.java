@@ -0,0 +1,109 @@
+package kr.ac.kopo.kyg.projectkyg.job;
+
+import kr.ac.kopo.kyg.projectkyg.domain.BackgroundJob;
+import kr.ac.kopo.kyg.projectkyg.domain.JobStatus;
+import kr.ac.kopo.kyg.projectkyg.domain.JobType;
+import kr.ac.kopo.kyg.projectkyg.repository.BackgroundJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 작업을 가져간 실행의 토큰으로만 진행률/종료가 반영되는지 (H2) */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 조건부 UPDATE 마다 커밋하고 다시 읽음
+class BackgroundJobClaimTest {
+
+    @Autowired
+    private BackgroundJobRepository jobRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void requeuedJobRejectsUpdatesFromPreviousRun() {
+        Long jobId = enqueue(3);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(jobRepository.claim(jobId, "first", now)).isEqualTo(1);
+        assertThat(jobRepository.claim(jobId, "second", now)).isZero();
+        assertThat(jobRepository.updateProgress(jobId, "first", 1, 10L, now)).isEqualTo(1);
+
+        // heartbeat 가 끊겨 다시 큐에 들어가고 다른 실행이 가져감
+        assertThat(jobRepository.requeueStale(now.plusMinutes(1), now)).isEqualTo(1);
+        assertThat(jobRepository.claim(jobId, "second", now)).isEqualTo(1);
+
+        assertThat(jobRepository.updateProgress(jobId, "first", 5, 10L, now)).isZero();
+        assertThat(jobRepository.finish(jobId, "first", JobStatus.SUCCEEDED, "늦은 종료", now)).isZero();
+        assertThatThrownBy(() -> new JobContext(jobId, "first", jobRepository).progress(5, 10L))
+                .isInstanceOf(JobCancelledException.class);
+
+        new JobContext(jobId, "second", jobRepository).progress(2, 10L);
+        assertThat(jobRepository.finish(jobId, "second", JobStatus.SUCCEEDED, "완료", now)).isEqualTo(1);
+
+        BackgroundJob job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getProgressDone()).isEqualTo(2);
+        assertThat(job.getMessage()).isEqualTo("완료");
+        assertThat(job.getClaimToken()).isNull();
+    }
+
+    @Test
+    void staleJobWithoutAttemptsLeftFails() {
+        Long jobId = enqueue(1);
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.claim(jobId, "only", now);
+
+        assertThat(jobRepository.requeueStale(now.plusMinutes(1), now)).isZero();
+        assertThat(jobRepository.failStale(now.plusMinutes(1), now)).isEqualTo(1);
+
+        BackgroundJob job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getClaimToken()).isNull();
+        assertThat(jobRepository.updateProgress(jobId, "only", 1, null, now)).isZero();
+    }
+
+    @Test
+    void heartbeatKeepsOnlyLiveRunsFromGoingStale() {
+        Long live = enqueue(3);
+        Long dead = enqueue(3);
+        LocalDateTime claimedAt = LocalDateTime.now().minusMinutes(10);
+        jobRepository.claim(live, "live", claimedAt);
+        jobRepository.claim(dead, "dead", claimedAt);
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(jobRepository.heartbeat(List.of("live"), now)).isEqualTo(1);
+        assertThat(jobRepository.requeueStale(now.minusMinutes(5), now)).isEqualTo(1);
+
+        assertThat(jobRepository.findById(live).orElseThrow().getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(jobRepository.findById(dead).orElseThrow().getStatus()).isEqualTo(JobStatus.QUEUED);
+    }
+
+    private Long enqueue(int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        BackgroundJob job = new BackgroundJob();
+        job.setType(JobType.values()[0]);
+        job.setStatus(JobStatus.QUEUED);
+        job.setRequestedBy("admin");
+        job.setMaxAttempts(maxAttempts);
+        job.setCreatedAt(now);
+        job.setRunAfter(now);
+        return jobRepository.save(job).getId();
+    }
+}
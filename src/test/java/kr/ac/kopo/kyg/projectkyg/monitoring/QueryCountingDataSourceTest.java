@@ -0,0 +1,53 @@
+package kr.ac.kopo.kyg.projectkyg.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** JDBC 수준 SQL 집계 (JdbcTemplate 문장 포함) */
+class QueryCountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new QueryCountingDataSource(target, 0.0));
+        jdbcTemplate.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(20))");
+        QueryCountingDataSource.reset();
+    }
+
+    @Test
+    void countsPlainAndPreparedStatements() {
+        jdbcTemplate.update("INSERT INTO items VALUES (?, ?)", 1, "a");
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+        jdbcTemplate.queryForList("SELECT name FROM items WHERE id = ?", String.class, 1);
+
+        assertThat(QueryCountingDataSource.reset()).isEqualTo(3);
+        assertThat(QueryCountingDataSource.reset()).isZero();
+    }
+
+    @Test
+    void countsBatchAsOneRoundTrip() {
+        jdbcTemplate.batchUpdate("INSERT INTO items VALUES (?, ?)",
+                List.of(new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}));
+
+        assertThat(QueryCountingDataSource.reset()).isEqualTo(1);
+    }
+
+    @Test
+    void countsPerThread() throws Exception {
+        Thread other = new Thread(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class));
+        other.start();
+        other.join();
+
+        assertThat(QueryCountingDataSource.reset()).isZero();
+    }
+}
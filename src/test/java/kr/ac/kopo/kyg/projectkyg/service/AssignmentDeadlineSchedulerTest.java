@@ -0,0 +1,191 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.event.DeadlinePassedEvent;
+import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 마감 시각 순 처리와 취소/변경 (시각은 고정 Clock 으로 진행) */
+class AssignmentDeadlineSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private final List<Object> events = new ArrayList<>();
+    private final MutableClock clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+    private AssignmentRepository assignmentRepository;
+    private UserTeamStatusService statusService;
+    private AssignmentDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        assignmentRepository = mock(AssignmentRepository.class);
+        when(assignmentRepository.findUpcomingDeadlines(any())).thenReturn(List.of());
+        statusService = mock(UserTeamStatusService.class);
+        scheduler = new AssignmentDeadlineScheduler(assignmentRepository, statusService, events::add, clock);
+    }
+
+    @Test
+    void firesOnlyDeadlinesThatHavePassed() {
+        scheduler.schedule(1L, 10L, START.plusMinutes(10));
+
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(scheduler.fireDue()).isZero();
+        assertThat(events).isEmpty();
+        verify(statusService, never()).refreshTeam(any());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(scheduler.fireDue()).isEqualTo(1);
+        assertThat(events).containsExactly(new DeadlinePassedEvent(10L, 1L));
+        verify(statusService).refreshTeam(10L);
+
+        // 한 번만 처리
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(scheduler.fireDue()).isZero();
+    }
+
+    @Test
+    void publishesInDeadlineOrderAfterRefreshingTeams() {
+        // 등록 순서와 무관하게 마감 시각 순
+        scheduler.schedule(3L, 30L, START.plusMinutes(3));
+        scheduler.schedule(1L, 10L, START.plusMinutes(1));
+        scheduler.schedule(2L, 20L, START.plusMinutes(2));
+
+        clock.advance(Duration.ofMinutes(5));
+        scheduler.fireDue();
+
+        assertThat(events).containsExactly(
+                new DeadlinePassedEvent(10L, 1L),
+                new DeadlinePassedEvent(20L, 2L),
+                new DeadlinePassedEvent(30L, 3L));
+        var order = inOrder(statusService);
+        order.verify(statusService).refreshTeam(10L);
+        order.verify(statusService).refreshTeam(20L);
+        order.verify(statusService).refreshTeam(30L);
+    }
+
+    @Test
+    void refreshesEachTeamOnceForDeadlinesDueTogether() {
+        scheduler.schedule(1L, 10L, START.plusMinutes(1));
+        scheduler.schedule(2L, 10L, START.plusMinutes(2));
+
+        clock.advance(Duration.ofMinutes(5));
+        scheduler.fireDue();
+
+        verify(statusService).refreshTeam(10L);
+        assertThat(events).hasSize(2);
+    }
+
+    @Test
+    void cancelledDeadlineIsSkipped() {
+        scheduler.schedule(1L, 10L, START.plusMinutes(1));
+        scheduler.schedule(2L, 20L, START.plusMinutes(2));
+
+        scheduler.cancel(1L);
+        clock.advance(Duration.ofMinutes(5));
+        scheduler.fireDue();
+
+        assertThat(events).containsExactly(new DeadlinePassedEvent(20L, 2L));
+        verify(statusService, never()).refreshTeam(10L);
+    }
+
+    @Test
+    void rescheduledDeadlineFiresOnlyAtNewTime() {
+        scheduler.schedule(1L, 10L, START.plusMinutes(1));
+        scheduler.schedule(2L, 20L, START.plusMinutes(2));
+
+        // 마감 연장: 이전 시각의 항목은 건너뛰고 새 시각에 한 번만
+        scheduler.schedule(1L, 10L, START.plusMinutes(3));
+
+        clock.advance(Duration.ofMinutes(2));
+        scheduler.fireDue();
+        assertThat(events).containsExactly(new DeadlinePassedEvent(20L, 2L));
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.fireDue();
+        assertThat(events).containsExactly(new DeadlinePassedEvent(20L, 2L), new DeadlinePassedEvent(10L, 1L));
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(scheduler.fireDue()).isZero();
+    }
+
+    @Test
+    void failedTeamRefreshStillPublishes() {
+        doThrow(new IllegalStateException("DB 오류")).when(statusService).refreshTeam(10L);
+        scheduler.schedule(1L, 10L, START.plusMinutes(1));
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.fireDue();
+
+        assertThat(events).containsExactly(new DeadlinePassedEvent(10L, 1L));
+    }
+
+    @Test
+    void earlierDeadlineWakesWaitingWorker() throws Exception {
+        // 실제 시각과 작업 스레드를 사용: 1시간 뒤 마감을 기다리는 중에 이미 지난 마감을 등록
+        BlockingQueue<Object> published = new LinkedBlockingQueue<>();
+        AssignmentDeadlineScheduler live = new AssignmentDeadlineScheduler(
+                assignmentRepository, statusService, published::add, Clock.systemDefaultZone());
+        live.run(new DefaultApplicationArguments());
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            live.schedule(1L, 10L, now.plusHours(1));
+            live.schedule(2L, 20L, now.minusSeconds(1));
+
+            assertThat(published.poll(10, TimeUnit.SECONDS)).isEqualTo(new DeadlinePassedEvent(20L, 2L));
+            assertThat(published).isEmpty();
+        } finally {
+            live.shutdown();
+        }
+    }
+
+    /** 테스트가 직접 앞으로 돌리는 시계 */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.domain.Role;
+import kr.ac.kopo.kyg.projectkyg.domain.UploadSession;
+import kr.ac.kopo.kyg.projectkyg.repository.AssignmentRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.UploadSessionRepository;
+import kr.ac.kopo.kyg.projectkyg.storage.UploadChunkStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 분할 업로드: 끊긴 청크 이어 올리기와 commit */
+class ChunkedUploadServiceTest {
+
+    private static final Long ASSIGNMENT_ID = 7L;
+    private static final String USERNAME = "student";
+
+    @TempDir
+    Path root;
+
+    private UploadSessionRepository sessionRepository;
+    private SubmissionService submissionService;
+    private ChunkedUploadService service;
+    private final Map<String, UploadSession> sessions = new HashMap<>();
+    private final AtomicReference<String> submitted = new AtomicReference<>();
+    private final AtomicReference<LocalDateTime> submittedAt = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sessionRepository = mock(UploadSessionRepository.class);
+        when(sessionRepository.save(any())).thenAnswer(invocation -> {
+            UploadSession session = invocation.getArgument(0);
+            sessions.put(session.getId(), session);
+            return session;
+        });
+        when(sessionRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(sessions.get(invocation.getArgument(0))));
+        AssignmentRepository assignmentRepository = mock(AssignmentRepository.class);
+        when(assignmentRepository.existsById(ASSIGNMENT_ID)).thenReturn(true);
+        UserCache userCache = mock(UserCache.class);
+        when(userCache.require(USERNAME)).thenReturn(
+                new UserSnapshot(1L, USERNAME, "학생", Role.ROLE_USER, Set.of(), Set.of(), 0));
+
+        submissionService = mock(SubmissionService.class);
+        when(submissionService.getMaxUploadBytes()).thenReturn(1024L);
+        when(submissionService.submit(eq(ASSIGNMENT_ID), eq(USERNAME), any(), anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    InputStream content = invocation.getArgument(2);
+                    submitted.set(new String(content.readAllBytes(), StandardCharsets.US_ASCII));
+                    submittedAt.set(invocation.getArgument(5));
+                    return new SubmissionService.SubmitResult(null, false);
+                });
+
+        service = new ChunkedUploadService(sessionRepository, assignmentRepository, userCache,
+                new UploadChunkStore(root.toString()), submissionService,
+                DataSize.ofBytes(4), Duration.ofHours(24), Duration.ofMinutes(15));
+    }
+
+    @Test
+    void resumesAfterShortChunkAndCommits() throws Exception {
+        UploadSession session = service.createSession(ASSIGNMENT_ID, USERNAME, "report.txt", "text/plain", 10);
+        String id = session.getId();
+        assertThat(session.getChunkCount()).isEqualTo(3);
+
+        service.receiveChunk(ASSIGNMENT_ID, id, USERNAME, 0, bytes("0123"));
+        // 연결이 끊겨 일부만 도착한 청크
+        assertThatThrownBy(() -> service.receiveChunk(ASSIGNMENT_ID, id, USERNAME, 1, bytes("45")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.receivedChunks(ASSIGNMENT_ID, id, USERNAME)).containsExactly(0);
+        assertThatThrownBy(() -> service.commit(ASSIGNMENT_ID, id, USERNAME))
+                .isInstanceOf(IllegalStateException.class);
+        verify(submissionService, never()).submit(anyLong(), anyString(), any(), anyString(), any(), any());
+
+        // 이어 올리기
+        service.receiveChunk(ASSIGNMENT_ID, id, USERNAME, 1, bytes("4567"));
+        service.receiveChunk(ASSIGNMENT_ID, id, USERNAME, 2, bytes("89"));
+        assertThat(service.receivedChunks(ASSIGNMENT_ID, id, USERNAME)).containsExactly(0, 1, 2);
+
+        service.commit(ASSIGNMENT_ID, id, USERNAME);
+
+        assertThat(submitted.get()).isEqualTo("0123456789");
+        assertThat(submittedAt.get()).isEqualTo(session.getStartedAt());
+        verify(sessionRepository).delete(session);
+    }
+
+    @Test
+    void chunkArrivingAfterGraceMovesSubmissionTime() throws Exception {
+        UploadSession session = service.createSession(ASSIGNMENT_ID, USERNAME, "report.txt", "text/plain", 4);
+        LocalDateTime startedAt = LocalDateTime.now().minusHours(1);
+        session.setStartedAt(startedAt);
+
+        service.receiveChunk(ASSIGNMENT_ID, session.getId(), USERNAME, 0, bytes("0123"));
+        service.commit(ASSIGNMENT_ID, session.getId(), USERNAME);
+
+        // 시작 시각이 아니라 마지막 청크 수신 시각 - 유예 시간
+        assertThat(submittedAt.get()).isAfter(startedAt.plusMinutes(40));
+    }
+
+    @Test
+    void rejectsChunkOfAnotherUsersSession() throws Exception {
+        UploadSession session = service.createSession(ASSIGNMENT_ID, USERNAME, "report.txt", "text/plain", 4);
+        session.setUserId(2L);
+
+        assertThatThrownBy(() -> service.receiveChunk(ASSIGNMENT_ID, session.getId(), USERNAME, 0, bytes("0123")))
+                .isInstanceOf(ChunkedUploadService.UploadSessionNotFoundException.class);
+    }
+
+    private static InputStream bytes(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,146 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import kr.ac.kopo.kyg.projectkyg.domain.Role;
+import kr.ac.kopo.kyg.projectkyg.event.DeadlinePassedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.sql.DataSource;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 목록 화면 ETag 버전과 304 응답 (H2 MySQL 모드) */
+class ContentVersionsTest {
+
+    private static final Long TEAM = 10L;
+    private static final Long OTHER_TEAM = 20L;
+    private static final Long ASSIGNMENT = 100L;
+
+    private final UserSnapshot member = new UserSnapshot(1L, "student", "학생", Role.ROLE_USER, Set.of(TEAM), Set.of(), 0);
+    private final UserSnapshot manager = new UserSnapshot(2L, "manager", "팀장", Role.ROLE_USER, Set.of(TEAM), Set.of(TEAM), 0);
+
+    private AnnotationConfigApplicationContext context;
+    private ContentVersions versions;
+    private TransactionTemplate transactionTemplate;
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE content_versions (scope VARCHAR(40) NOT NULL PRIMARY KEY, "
+                    + "version BIGINT NOT NULL)");
+            return jdbcTemplate;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        ContentVersions contentVersions(JdbcTemplate jdbcTemplate) {
+            return new ContentVersions(jdbcTemplate);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(Config.class);
+        versions = context.getBean(ContentVersions.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void notModifiedUntilTeamChanges() {
+        String etag = versions.teamTag(TEAM, member);
+
+        MockHttpServletResponse unchanged = new MockHttpServletResponse();
+        assertThat(versions.checkNotModified(request(etag, unchanged), versions.teamTag(TEAM, member))).isTrue();
+        assertThat(unchanged.getStatus()).isEqualTo(304);
+        assertThat(unchanged.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+
+        versions.touchTeam(TEAM);
+
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        String current = versions.teamTag(TEAM, member);
+        assertThat(current).isNotEqualTo(etag);
+        assertThat(versions.checkNotModified(request(etag, changed), current)).isFalse();
+        assertThat(changed.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void tagsDependOnScopeAndViewer() {
+        String teamTag = versions.teamTag(TEAM, member);
+        String otherTeamTag = versions.teamTag(OTHER_TEAM, member);
+        String assignmentTag = versions.assignmentTag(TEAM, ASSIGNMENT, manager);
+
+        // 팀장과 팀원은 같은 팀 화면에서 다른 내용을 봄
+        assertThat(versions.teamTag(TEAM, manager)).isNotEqualTo(teamTag);
+
+        versions.touchAssignment(TEAM, ASSIGNMENT);
+        assertThat(versions.assignmentTag(TEAM, ASSIGNMENT, manager)).isNotEqualTo(assignmentTag);
+        assertThat(versions.teamTag(TEAM, member)).isNotEqualTo(teamTag);
+        assertThat(versions.teamTag(OTHER_TEAM, member)).isEqualTo(otherTeamTag);
+
+        String teamList = versions.teamListTag();
+        versions.touchAll();
+        assertThat(versions.teamTag(OTHER_TEAM, member)).isNotEqualTo(otherTeamTag);
+        assertThat(versions.teamListTag()).isNotEqualTo(teamList);
+    }
+
+    @Test
+    void eventBumpsVersionInPublishingTransaction() {
+        String before = versions.teamTag(TEAM, member);
+
+        // 롤백된 변경은 버전도 올리지 않음
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new DeadlinePassedEvent(TEAM, ASSIGNMENT));
+            status.setRollbackOnly();
+        });
+        assertThat(versions.teamTag(TEAM, member)).isEqualTo(before);
+
+        transactionTemplate.executeWithoutResult(status ->
+                context.publishEvent(new DeadlinePassedEvent(TEAM, ASSIGNMENT)));
+        String committed = versions.teamTag(TEAM, member);
+        assertThat(committed).isNotEqualTo(before);
+
+        // 트랜잭션 밖에서 발행된 마감 알림은 바로 반영
+        context.publishEvent(new DeadlinePassedEvent(TEAM, ASSIGNMENT));
+        assertThat(versions.teamTag(TEAM, member)).isNotEqualTo(committed);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects/" + TEAM);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return new ServletWebRequest(request, response);
+    }
+}
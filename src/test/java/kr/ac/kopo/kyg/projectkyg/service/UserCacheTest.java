@@ -0,0 +1,79 @@
+package kr.ac.kopo.kyg.projectkyg.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ac.kopo.kyg.projectkyg.domain.Role;
+import kr.ac.kopo.kyg.projectkyg.domain.User;
+import kr.ac.kopo.kyg.projectkyg.repository.TeamRepository;
+import kr.ac.kopo.kyg.projectkyg.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 사용자 캐시: DB 의 cache_version 과 비교하여 다른 인스턴스의 변경을 반영 */
+class UserCacheTest {
+
+    private static final String USERNAME = "student";
+
+    private UserRepository userRepository;
+    private TeamRepository teamRepository;
+    private UserCache userCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        teamRepository = mock(TeamRepository.class);
+        userCache = new UserCache(userRepository, teamRepository, mock(NamedParameterJdbcTemplate.class),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername(USERNAME);
+        user.setName("학생");
+        user.setRole(Role.ROLE_USER);
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(user));
+        when(userRepository.findTeamIdsByUserId(1L)).thenReturn(Set.of(10L));
+        when(teamRepository.findIdsByManagerUsername(USERNAME)).thenReturn(Set.of());
+        when(userRepository.findCacheVersionByUsername(USERNAME)).thenReturn(Optional.of(0L));
+    }
+
+    @Test
+    void reusesEntryWhileVersionIsUnchanged() {
+        userCache.find(USERNAME);
+        userCache.find(USERNAME);
+
+        verify(userRepository, times(1)).findByUsername(USERNAME);
+    }
+
+    @Test
+    void reloadsWhenAnotherInstanceBumpedVersion() {
+        assertThat(userCache.require(USERNAME).isMemberOf(10L)).isTrue();
+
+        // 다른 인스턴스에서 팀 탈퇴가 커밋됨
+        user.setCacheVersion(1);
+        when(userRepository.findCacheVersionByUsername(USERNAME)).thenReturn(Optional.of(1L));
+        when(userRepository.findTeamIdsByUserId(1L)).thenReturn(Set.of());
+
+        assertThat(userCache.require(USERNAME).isMemberOf(10L)).isFalse();
+        verify(userRepository, times(2)).findByUsername(USERNAME);
+    }
+
+    @Test
+    void deletedUserIsNotServedFromCache() {
+        userCache.find(USERNAME);
+
+        when(userRepository.findCacheVersionByUsername(USERNAME)).thenReturn(Optional.empty());
+
+        assertThat(userCache.find(USERNAME)).isEmpty();
+    }
+}
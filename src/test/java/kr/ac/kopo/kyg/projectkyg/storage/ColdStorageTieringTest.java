@@ -0,0 +1,168 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import kr.ac.kopo.kyg.projectkyg.job.SchedulerLeases;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 오래된 과제의 파일을 세그먼트로 옮기고 다시 읽기 (H2 MySQL 모드) */
+class ColdStorageTieringTest {
+
+    private static final long OLD_ASSIGNMENT = 1L;
+    private static final long RECENT_ASSIGNMENT = 2L;
+
+    @TempDir
+    Path root;
+
+    private JdbcTemplate jdbcTemplate;
+    private FileSystemSubmissionStorage hot;
+    private TieredSubmissionStorage storage;
+    private ColdStorageTieringJob job;
+    private Path archiveDir;
+    private long submissionId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE assignments (id BIGINT PRIMARY KEY, deadline TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE TABLE submissions (id BIGINT PRIMARY KEY, assignment_id BIGINT NOT NULL, "
+                + "storage_key VARCHAR(64))");
+        jdbcTemplate.execute("CREATE TABLE stored_blobs ("
+                + "storage_key VARCHAR(64) NOT NULL PRIMARY KEY, size BIGINT NOT NULL, ref_count INT NOT NULL, "
+                + "created_at TIMESTAMP(6) NOT NULL, released_at TIMESTAMP(6), "
+                + "stored_size BIGINT, content_encoding VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE archive_segments (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "file_name VARCHAR(100) NOT NULL UNIQUE, size BIGINT NOT NULL, entry_count INT NOT NULL, "
+                + "created_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE archived_blobs (storage_key VARCHAR(64) NOT NULL PRIMARY KEY, "
+                + "segment_id BIGINT NOT NULL REFERENCES archive_segments (id), entry_offset BIGINT NOT NULL, "
+                + "entry_length BIGINT NOT NULL, content_encoding VARCHAR(20), archived_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE scheduler_leases (name VARCHAR(50) PRIMARY KEY, owner VARCHAR(32), "
+                + "locked_until TIMESTAMP(6))");
+        jdbcTemplate.update("INSERT INTO assignments VALUES (?, ?)", OLD_ASSIGNMENT, LocalDateTime.now().minusDays(365));
+        jdbcTemplate.update("INSERT INTO assignments VALUES (?, ?)", RECENT_ASSIGNMENT, LocalDateTime.now().minusDays(1));
+
+        archiveDir = root.resolve("archive");
+        hot = new FileSystemSubmissionStorage(root.resolve("hot").toString(), true);
+        SegmentArchive archive = new SegmentArchive(archiveDir.toString());
+        ArchiveReadCache cache = new ArchiveReadCache(root.resolve("hot").toString(), DataSize.ofMegabytes(1));
+        storage = new TieredSubmissionStorage(hot, archive, cache, jdbcTemplate);
+        job = new ColdStorageTieringJob(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                hot, archive, new SchedulerLeases(jdbcTemplate),
+                true, Duration.ofDays(180), DataSize.ofMegabytes(1), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void archivesOnlyFilesOfLongPastAssignments() throws Exception {
+        StoredContent old = store("old report ".repeat(200), "text/plain", OLD_ASSIGNMENT);
+        StoredContent recent = store("recent report ".repeat(200), "text/plain", RECENT_ASSIGNMENT);
+
+        assertThat(job.run()).isEqualTo(1);
+
+        assertThat(hot.exists(old.storageKey())).isFalse();
+        assertThat(storage.exists(old.storageKey())).isTrue();
+        assertThat(storage.localPath(old.storageKey())).isEmpty();
+        assertThat(hot.exists(recent.storageKey())).isTrue();
+        assertThat(job.run()).isZero();
+    }
+
+    @Test
+    void restoresArchivedFileFromSegment() throws Exception {
+        String text = "old report ".repeat(200);
+        StoredContent gzip = store(text, "text/plain", OLD_ASSIGNMENT);
+        byte[] binary = new byte[3000];
+        new Random(1).nextBytes(binary);
+        StoredContent plain = store(binary, "application/octet-stream", OLD_ASSIGNMENT);
+        assertThat(gzip.isGzip()).isTrue();
+        assertThat(plain.isGzip()).isFalse();
+
+        assertThat(job.run()).isEqualTo(2);
+
+        assertThat(read(storage.open(gzip.storageKey()))).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+        // 압축 저장본은 gzip 그대로 내줌 (Content-Encoding: gzip 전송용)
+        try (InputStream encoded = new GZIPInputStream(storage.openEncoded(gzip.storageKey()))) {
+            assertThat(encoded.readAllBytes()).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(read(storage.open(plain.storageKey()))).isEqualTo(binary);
+        // 캐시에서 다시 읽기
+        assertThat(read(storage.open(plain.storageKey()))).isEqualTo(binary);
+    }
+
+    @Test
+    void sameContentUploadedAgainSharesArchivedCopy() throws Exception {
+        String text = "old report ".repeat(200);
+        StoredContent old = store(text, "text/plain", OLD_ASSIGNMENT);
+        job.run();
+
+        StagedContent staged = hot.stage(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)),
+                1_000_000, "text/plain");
+        StoredContent again = storage.promote(staged);
+        storage.discard(staged);
+
+        assertThat(again.storageKey()).isEqualTo(old.storageKey());
+        assertThat(hot.exists(old.storageKey())).isFalse();
+    }
+
+    @Test
+    void deletingLastArchivedFileDropsSegment() throws Exception {
+        StoredContent old = store("old report ".repeat(200), "text/plain", OLD_ASSIGNMENT);
+        job.run();
+        assertThat(segmentFiles()).isNotZero();
+
+        storage.delete(old.storageKey());
+        jdbcTemplate.update("DELETE FROM stored_blobs WHERE storage_key = ?", old.storageKey());
+        job.run();
+
+        assertThat(storage.exists(old.storageKey())).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM archive_segments", Integer.class)).isZero();
+        assertThat(segmentFiles()).isZero();
+    }
+
+    private StoredContent store(String text, String contentType, long assignmentId) throws IOException {
+        return store(text.getBytes(StandardCharsets.UTF_8), contentType, assignmentId);
+    }
+
+    private StoredContent store(byte[] content, String contentType, long assignmentId) throws IOException {
+        StoredContent stored = hot.promote(hot.stage(new ByteArrayInputStream(content), 1_000_000, contentType));
+        jdbcTemplate.update("INSERT INTO stored_blobs (storage_key, size, ref_count, created_at, stored_size, "
+                        + "content_encoding) VALUES (?, ?, 1, ?, ?, ?)",
+                stored.storageKey(), stored.size(), LocalDateTime.now(), stored.storedSize(), stored.encoding());
+        jdbcTemplate.update("INSERT INTO submissions VALUES (?, ?, ?)", ++submissionId, assignmentId, stored.storageKey());
+        return stored;
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** stored_blobs 참조 수 관리 (H2 MySQL 모드) */
+class StoredBlobRegistryTest {
+
+    private static final String KEY = "a".repeat(64);
+
+    private JdbcTemplate jdbcTemplate;
+    private SubmissionStorage storage;
+    private StoredBlobRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE stored_blobs ("
+                + "storage_key VARCHAR(64) NOT NULL PRIMARY KEY, size BIGINT NOT NULL, ref_count INT NOT NULL, "
+                + "created_at TIMESTAMP(6) NOT NULL, released_at TIMESTAMP(6), "
+                + "stored_size BIGINT, content_encoding VARCHAR(20))");
+
+        storage = mock(SubmissionStorage.class);
+        when(storage.promote(any())).thenAnswer(invocation -> {
+            StagedContent staged = invocation.getArgument(0);
+            return new StoredContent(staged.checksum(), staged.size(), staged.checksum(),
+                    staged.storedSize(), staged.encoding());
+        });
+        registry = new StoredBlobRegistry(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                storage, Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    void acquireRegistersAndCountsReferences() throws Exception {
+        StoredContent stored = registry.acquire(staged(KEY));
+        registry.acquire(staged(KEY));
+
+        assertThat(stored.storageKey()).isEqualTo(KEY);
+        assertThat(refCount(KEY)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT content_encoding FROM stored_blobs WHERE storage_key = ?", String.class, KEY))
+                .isEqualTo(StoredContent.GZIP);
+    }
+
+    @Test
+    void releaseDecrementsOncePerKeyOccurrenceAndNeverBelowZero() throws Exception {
+        registry.acquire(staged(KEY));
+        registry.acquire(staged(KEY));
+        registry.acquire(staged(KEY));
+
+        registry.release(List.of(KEY, KEY));
+        assertThat(refCount(KEY)).isEqualTo(1);
+
+        registry.release(List.of(KEY, KEY));
+        assertThat(refCount(KEY)).isZero();
+        assertThat(releasedAt(KEY)).isNotNull();
+    }
+
+    @Test
+    void sweepKeepsFilesReleasedWithinGrace() throws Exception {
+        registry.acquire(staged(KEY));
+        registry.release(KEY);
+
+        registry.sweep();
+
+        verify(storage, never()).delete(anyString());
+        assertThat(refCount(KEY)).isZero();
+    }
+
+    @Test
+    void sweepDeletesUnreferencedFilesAfterGrace() throws Exception {
+        registry.acquire(staged(KEY));
+        registry.release(KEY);
+        jdbcTemplate.update("UPDATE stored_blobs SET released_at = ? WHERE storage_key = ?",
+                LocalDateTime.now().minusHours(1), KEY);
+
+        registry.sweep();
+
+        verify(storage).delete(KEY);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM stored_blobs WHERE storage_key = ?", Integer.class, KEY)).isZero();
+    }
+
+    @Test
+    void reacquiredFileIsNotSwept() throws Exception {
+        registry.acquire(staged(KEY));
+        registry.release(KEY);
+        jdbcTemplate.update("UPDATE stored_blobs SET released_at = ? WHERE storage_key = ?",
+                LocalDateTime.now().minusHours(1), KEY);
+
+        // 정리 전에 같은 내용이 다시 제출됨
+        registry.acquire(staged(KEY));
+        registry.sweep();
+
+        verify(storage, never()).delete(anyString());
+        assertThat(refCount(KEY)).isEqualTo(1);
+        assertThat(releasedAt(KEY)).isNull();
+    }
+
+    @Test
+    void releaseUnreferencedDoesNotTouchReferencedFiles() throws Exception {
+        registry.acquire(staged(KEY));
+
+        registry.releaseUnreferenced(staged(KEY));
+
+        assertThat(refCount(KEY)).isEqualTo(1);
+        assertThat(releasedAt(KEY)).isNull();
+    }
+
+    private static StagedContent staged(String checksum) {
+        return new StagedContent("staging-" + UUID.randomUUID(), 100, checksum, 40, StoredContent.GZIP);
+    }
+
+    private int refCount(String key) {
+        return jdbcTemplate.queryForObject("SELECT ref_count FROM stored_blobs WHERE storage_key = ?", Integer.class, key);
+    }
+
+    private LocalDateTime releasedAt(String key) {
+        return jdbcTemplate.queryForObject("SELECT released_at FROM stored_blobs WHERE storage_key = ?",
+                LocalDateTime.class, key);
+    }
+}
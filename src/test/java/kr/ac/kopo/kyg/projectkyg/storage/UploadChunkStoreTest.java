@@ -0,0 +1,83 @@
+package kr.ac.kopo.kyg.projectkyg.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 분할 업로드 청크 저장 (끊긴 청크와 이어 올리기) */
+class UploadChunkStoreTest {
+
+    private static final String SESSION_ID = "0123456789abcdef0123456789abcdef";
+
+    @TempDir
+    Path root;
+
+    private UploadChunkStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new UploadChunkStore(root.toString());
+    }
+
+    @Test
+    void shortChunkIsNotReportedAsReceived() throws Exception {
+        store.writeChunk(SESSION_ID, 0, bytes("0123"), 4);
+
+        assertThatThrownBy(() -> store.writeChunk(SESSION_ID, 1, bytes("45"), 4))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(store.receivedChunks(SESSION_ID)).containsExactly(0);
+        assertThat(store.chunkSize(SESSION_ID, 1)).isEqualTo(-1);
+        // 임시 파일도 남지 않음
+        try (var files = Files.list(root.resolve("uploads").resolve(SESSION_ID))) {
+            assertThat(files.map(path -> path.getFileName().toString())).containsExactly("0.part");
+        }
+    }
+
+    @Test
+    void resumedChunkCompletesUpload() throws Exception {
+        store.writeChunk(SESSION_ID, 0, bytes("0123"), 4);
+        assertThatThrownBy(() -> store.writeChunk(SESSION_ID, 1, bytes("4"), 4))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 이어 올리기: 받지 못한 청크만 다시 보냄
+        store.writeChunk(SESSION_ID, 1, bytes("4567"), 4);
+        store.writeChunk(SESSION_ID, 2, bytes("89"), 2);
+
+        assertThat(store.receivedChunks(SESSION_ID)).containsExactly(0, 1, 2);
+        try (InputStream assembled = store.openAssembled(SESSION_ID, 3)) {
+            assertThat(new String(assembled.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("0123456789");
+        }
+    }
+
+    @Test
+    void retriedChunkReplacesPreviousCopy() throws Exception {
+        store.writeChunk(SESSION_ID, 0, bytes("aaaa"), 4);
+        store.writeChunk(SESSION_ID, 0, bytes("0123"), 4);
+
+        try (InputStream assembled = store.openAssembled(SESSION_ID, 1)) {
+            assertThat(new String(assembled.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("0123");
+        }
+    }
+
+    @Test
+    void oversizedChunkIsRejected() throws Exception {
+        assertThatThrownBy(() -> store.writeChunk(SESSION_ID, 0, bytes("012345"), 4))
+                .isInstanceOf(StorageLimitExceededException.class);
+
+        assertThat(store.receivedChunks(SESSION_ID)).isEmpty();
+    }
+
+    private static InputStream bytes(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}